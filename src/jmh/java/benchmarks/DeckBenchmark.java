@@ -0,0 +1,55 @@
+package benchmarks;
+
+import models.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pools.CardDeck;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of dealing cards from CardDeck.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private CardDeck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new CardDeck(new Random(1));
+    }
+
+    @Benchmark
+    public List<Card> getRandomCards() {
+        deck.resetDeck();
+        return deck.getRandomCards(5);
+    }
+
+    @Benchmark
+    public void resetDeck() {
+        deck.resetDeck();
+    }
+
+    @Benchmark
+    public List<Card> dealTwoHands() {
+        deck.resetDeck();
+        deck.getRandomCards(5);
+        return deck.getRandomCards(5);
+    }
+}
@@ -0,0 +1,103 @@
+package benchmarks;
+
+import analyzers.PokerHandAnalyzer;
+import enums.PokerHand;
+import models.Card;
+import models.Hand;
+import models.MatchData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of creating, classifying and comparing hands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    private List<List<Card>> cards;
+    private Hand[] hands;
+    private Hand[] tiedHands;
+    private Hand[] untiedHands;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cards = HandMix.dealtCards(1);
+        hands = HandMix.dealtHands(2);
+        tiedHands = HandMix.pairedHands(3, true);
+        untiedHands = HandMix.pairedHands(4, false);
+    }
+
+    /**
+     * PokerHand that hands are matched with
+     */
+    @State(Scope.Thread)
+    public static class Matched {
+
+        @Param({"ROYAL_FLUSH", "STRAIGHT_FLUSH", "FOUR_OF_A_KIND", "FULL_HOUSE", "FLUSH",
+                "STRAIGHT", "THREE_OF_A_KIND", "TWO_PAIRS", "ONE_PAIR", "HIGH_CARD"})
+        private String name;
+
+        private PokerHand pokerHand;
+
+        @Setup
+        public void setUp() {
+            pokerHand = PokerHand.valueOf(name);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (HandMix.SIZE - 1);
+        return index;
+    }
+
+    @Benchmark
+    public Hand newHand() {
+        return new Hand(cards.get(next()));
+    }
+
+    @Benchmark
+    public boolean matches(Matched matched) {
+        return matched.pokerHand.matches(hands[next()]);
+    }
+
+    @Benchmark
+    public int compareToTied() {
+        int i = next();
+        return tiedHands[i].compareTo(tiedHands[i + HandMix.SIZE]);
+    }
+
+    @Benchmark
+    public int compareToUntied() {
+        int i = next();
+        return untiedHands[i].compareTo(untiedHands[i + HandMix.SIZE]);
+    }
+
+    @Benchmark
+    public int comparatorUntied() {
+        int i = next();
+        return Hand.BY_STRENGTH.compare(untiedHands[i], untiedHands[i + HandMix.SIZE]);
+    }
+
+    @Benchmark
+    public MatchData analyzerMatchData() {
+        return PokerHandAnalyzer.getMatchData(hands[next()]);
+    }
+}
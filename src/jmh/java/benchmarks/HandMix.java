@@ -0,0 +1,81 @@
+package benchmarks;
+
+import models.Card;
+import models.Hand;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Representative mixes of hands for benchmarks. Hands are dealt from a seeded deck,
+ * so categories appear as often as they do in real games and every run uses same hands.
+ */
+class HandMix {
+
+    /**
+     * Count of hands in every mix. Power of two, so index can be masked.
+     */
+    static final int SIZE = 1024;
+
+    private HandMix() {
+    }
+
+    /**
+     * @param seed seed of deck
+     * @return card lists of randomly dealt hands
+     */
+    static List<List<Card>> dealtCards(long seed) {
+
+        CardDeck deck = new CardDeck(new Random(seed));
+        List<List<Card>> cards = new ArrayList<>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            deck.resetDeck();
+            cards.add(deck.getRandomCards(5));
+        }
+        return cards;
+    }
+
+    /**
+     * @param seed seed of deck
+     * @return randomly dealt hands
+     */
+    static Hand[] dealtHands(long seed) {
+
+        List<List<Card>> cards = dealtCards(seed);
+        Hand[] hands = new Hand[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            hands[i] = new Hand(cards.get(i));
+        }
+        return hands;
+    }
+
+    /**
+     * Pairs hands with opponent hands of same or different PokerHand category.
+     * @param seed seed of deck
+     * @param sameCategory should paired hands have same category
+     * @return array of hands where hand at index i is paired with hand at index i + SIZE
+     */
+    static Hand[] pairedHands(long seed, boolean sameCategory) {
+
+        CardDeck deck = new CardDeck(new Random(seed));
+        Hand[] hands = new Hand[SIZE * 2];
+        int count = 0;
+
+        while (count < SIZE) {
+            deck.resetDeck();
+            Hand hand1 = new Hand(deck.getRandomCards(5));
+            Hand hand2 = new Hand(deck.getRandomCards(5));
+
+            if ((hand1.getPokerHand() == hand2.getPokerHand()) == sameCategory) {
+                hands[count] = hand1;
+                hands[count + SIZE] = hand2;
+                count++;
+            }
+        }
+        return hands;
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import analyzers.HandState;
+import analyzers.SevenCardEvaluator;
+import models.CardSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pools.CardDeck;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of enumerating all turn and river cards of a Hold'em flop. Incremental state adds
+ * and pops one card at every node, full evaluation evaluates all 7 cards at every leaf.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandStateBenchmark {
+
+    private long hand;
+    private long remaining;
+    private HandState state;
+
+    @Setup
+    public void setUp() {
+
+        hand = new CardDeck(new Random(1)).getRandomBits(5);
+        remaining = CardSet.FULL_DECK_BITS & ~hand;
+        state = new HandState(hand);
+    }
+
+    @Benchmark
+    public long incremental() {
+
+        long sum = 0;
+
+        for (long a = remaining; a != 0; a = CardSet.removeFirst(a)) {
+            state.add(CardSet.first(a));
+
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                state.add(CardSet.first(b));
+                sum += state.evaluate();
+                state.pop();
+            }
+            state.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fullEvaluation() {
+
+        long sum = 0;
+
+        for (long a = remaining; a != 0; a = CardSet.removeFirst(a)) {
+            long turn = hand | CardSet.bit(CardSet.first(a));
+
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                sum += SevenCardEvaluator.evaluate(turn | CardSet.bit(CardSet.first(b)));
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import analyzers.HandEvaluator;
+import analyzers.OmahaEvaluator;
+import models.CardSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pools.CardDeck;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of Omaha evaluation against evaluating all 60 hands of 2 hole cards and 3 board cards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OmahaBenchmark {
+
+    private long[] holes;
+    private long[] boards;
+    private int index;
+
+    @Setup
+    public void setUp() {
+
+        CardDeck deck = new CardDeck(new Random(1));
+        holes = new long[HandMix.SIZE];
+        boards = new long[HandMix.SIZE];
+
+        for (int i = 0; i < HandMix.SIZE; i++) {
+            deck.resetDeck();
+            holes[i] = deck.getRandomBits(4);
+            boards[i] = deck.getRandomBits(5);
+        }
+    }
+
+    @Benchmark
+    public int omaha() {
+        int i = index++ & (HandMix.SIZE - 1);
+        return OmahaEvaluator.evaluate(holes[i], boards[i]);
+    }
+
+    @Benchmark
+    public int allHands() {
+
+        int i = index++ & (HandMix.SIZE - 1);
+        int best = 0;
+
+        for (long a = holes[i]; a != 0; a = CardSet.removeFirst(a)) {
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                for (long c = boards[i]; c != 0; c = CardSet.removeFirst(c)) {
+                    for (long d = CardSet.removeFirst(c); d != 0; d = CardSet.removeFirst(d)) {
+                        for (long e = CardSet.removeFirst(d); e != 0; e = CardSet.removeFirst(e)) {
+                            best = Math.max(best, HandEvaluator.evaluate(HandEvaluator.encode(CardSet.first(a)),
+                                    HandEvaluator.encode(CardSet.first(b)), HandEvaluator.encode(CardSet.first(c)),
+                                    HandEvaluator.encode(CardSet.first(d)), HandEvaluator.encode(CardSet.first(e))));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
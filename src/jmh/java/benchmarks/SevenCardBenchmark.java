@@ -0,0 +1,78 @@
+package benchmarks;
+
+import analyzers.HandEvaluator;
+import analyzers.SevenCardEvaluator;
+import models.CardSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pools.CardDeck;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of best 5 of 7 cards evaluation against evaluating all 21 sub-hands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SevenCardBenchmark {
+
+    private long[] hands;
+    private int index;
+
+    @Setup
+    public void setUp() {
+
+        CardDeck deck = new CardDeck(new Random(1));
+        hands = new long[HandMix.SIZE];
+
+        for (int i = 0; i < hands.length; i++) {
+            deck.resetDeck();
+            hands[i] = deck.getRandomBits(7);
+        }
+    }
+
+    @Benchmark
+    public int sevenCards() {
+        return SevenCardEvaluator.evaluate(hands[index++ & (HandMix.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public int subHands() {
+
+        long bits = hands[index++ & (HandMix.SIZE - 1)];
+        int[] codes = new int[7];
+        int n = 0;
+
+        for (long rest = bits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            codes[n++] = HandEvaluator.encode(CardSet.first(rest));
+        }
+
+        int best = 0;
+
+        for (int a = 0; a < 7; a++) {
+            for (int b = a + 1; b < 7; b++) {
+                for (int c = b + 1; c < 7; c++) {
+                    for (int d = c + 1; d < 7; d++) {
+                        for (int e = d + 1; e < 7; e++) {
+                            best = Math.max(best, HandEvaluator.evaluate(codes[a], codes[b], codes[c], codes[d], codes[e]));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
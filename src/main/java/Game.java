@@ -1,325 +1,280 @@
-
-import models.Hand;
-import models.Player;
+import analyzers.DrawSolver;
+import analyzers.DrawTable;
+import analyzers.EvaluatorTables;
+import analyzers.HandEnumeration;
+import engine.DrawSolverStrategy;
+import engine.GameSession;
+import engine.PlayerStrategy;
+import engine.RaisingStrategy;
+import engine.ReaderInput;
+import engine.Simulation;
+import engine.SocketTableServer;
+import engine.TableServer;
+import enums.FsyncPolicy;
+import enums.PokerHand;
+import history.HandHistoryReader;
+import history.HandHistoryRecorder;
+import history.HandHistoryWriter;
+import metrics.PokerMetrics;
 import pools.CardDeck;
-import java.util.Scanner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Main class of this project
- * Game of poker for 2 players only where one player is computer. Game has rules of Five Hand Poker
+ * Game of poker for 2 to 10 players where one player is human and others are computers. Game has rules of Five Hand Poker
  * On game start every player gets 20 chips and 5 cards before first round starts.
  *
  * Rules of the game
  * If first round starts both players have to be "blind" bet with a size of 1 chip before seeing their cards.
  * Human player can then see his cards and application asks if player wants to raise his/hers bets. Computer
  * player always has to bet same amount of chips as player.
- * If answer is no or additional bets are added. Then both players show their hands and hands are compared by
- * comparing algorithm. Winner of a round is one with stronger Hand. Winner gets all bets from chips pool and
+ * If answer is no or additional bets are added. Then comes draw round where human player can discard any of
+ * his/hers cards and gets new cards in their place. Computer player discards cards that give strongest hand on
+ * average. Then both players show their hands and hands are compared by comparing algorithm. Winner of a round is one with stronger Hand. Winner gets all bets from chips pool and
  * loser doesn't get anything from this round.
  * Second round starts if both players have at least 1 chip left. If player only has one chip left then Game
- * does not ask for additional bets and goes right to showing and comparing cards that decides fate of the player.
+ * does not ask for additional bets and goes right to draw round and comparing cards that decides fate of the player.
  * On every round end game checks players chips and if chip count is 0 by the end of the round, then player who holds
  * all the chips is a winner.
  *
+ * Count of players is given by system property poker.seats. With more than 2 players every computer player
+ * bets same amount as human player and discards like computer player above. Computer player who runs out of chips
+ * leaves the table. Tied players split the pool and chips that can not be split go to tied players in seat order.
+ *
  * If human wants to play again this game he can choose yes or no. On pressing "y" game initializes again and on
  * pressing "n" game exists
+ *
+ * Game flow is run by GameSession state machine.
+ * @see engine.GameSession
  */
 class Game {
 
-    private CardDeck cd;
-
-    private Player player1;
-    private Player player2;
-
-    private int chipsInPlay = 0;
-    private boolean gameOver;
-    private boolean roundOver;
-
-    Scanner reader = new Scanner(System.in);
-
     /**
      * Initializes project
+     *
+     * If first argument is "enumerate" then game is not started. Instead every 5 card
+     * hand of the deck is classified and counts of hands are printed.
+     *
+     * If first argument is "simulate" then given count of games is played without console
+     * between a player who raises with two pairs or better and a player who raises with any pair.
+     * If history directory is given after count of games then every round is recorded there.
+     *
+     * If first argument is "server" then tables are hosted for players that connect to given
+     * local port, by default 7777. Second argument after port is count of worker threads.
+     *
+     * If first argument is "history" then hand history of directory given as second argument
+     * is read and win rates of players, shown hands and pool sizes are printed.
+     *
+     * Metrics of hands, dealing and rounds are published through JMX unless system property
+     * poker.metrics is "false".
+     *
+     * If first argument is "drawtable" or "evaltables" then table is built and written into file
+     * given as second argument.
      * @param args arguments
      */
     public static void main(String[] args) {
-        Game game = new Game();
-    }
-
-    /**
-     * Initializes game
-     */
-    public Game() {
-        init();
-    }
 
-    /**
-     * Initializes players and card deck. Also sets value of gameOver to false.
-     * Stars the game after everything else is initialized.
-     */
-    private void init() {
+        PokerMetrics.register();
 
-        gameOver = false;
+        if (args.length > 0 && args[0].equals("enumerate")) {
+            System.out.println(HandEnumeration.enumerate());
+            return;
+        }
 
-        cd = new CardDeck();
+        if (args.length > 0 && args[0].equals("simulate")) {
+            long games = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+            simulate(games, args.length > 2 ? Paths.get(args[2]) : null);
+            return;
+        }
 
-        player1 = new Player(1);
-        player2 = new Player(2);
+        if (args.length > 0 && args[0].equals("server")) {
+            loadDrawTable(Paths.get(System.getProperty("poker.drawTable", "drawtable.bin")));
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 7777;
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            serve(port, threads);
+            return;
+        }
 
-        //Start game
-        start();
-    }
+        if (args.length > 1 && args[0].equals("drawtable")) {
+            buildDrawTable(Paths.get(args[1]));
+            return;
+        }
 
-    /**
-     * Starts game process
-     */
-    private void start() {
+        if (args.length > 1 && args[0].equals("history")) {
+            analyzeHistory(Paths.get(args[1]));
+            return;
+        }
 
-        System.out.println("-------- Game started ---------");
-        dealCards();
-    }
+        if (args.length > 1 && args[0].equals("evaltables")) {
+            buildEvaluatorTables(Paths.get(args[1]));
+            return;
+        }
 
-    /**
-     * Ends application process
-     */
-    private void end() {
-        System.out.println("Hope to see you again.");
-        System.exit(0);
-    }
+        loadDrawTable(Paths.get(System.getProperty("poker.drawTable", "drawtable.bin")));
 
-    /**
-     * Ends game and asks player to play again.
-     */
-    private void endGame() {
-
-        System.out.println("-------- Game ended ---------");
-        System.out.println("Would you like to play again? Press \"y\" for yes and \"n\" for no.");
-        askForPlayingAgain();
+        Game game = new Game();
     }
 
     /**
-     * Asks player to play again. User has to enter y or n to continue.
-     * On pressing y game initializes again and on pressing n application stops.
-     *
-     * Checks for valid entry with regex.
+     * Plays games between strategies and prints wins of players.
+     * @param games count of games to play
+     * @param history directory where rounds are recorded or null to play without history
      */
-    private void askForPlayingAgain() {
+    private static void simulate(long games, Path history) {
 
-        String input = reader.nextLine();
-
-        if (input.matches("(y|n){1}")) {
+        if (history == null) {
+            System.out.println(Simulation.run(games, Game::strategies));
+            return;
+        }
 
-            if (input.equals("y")) {
-                init();
-            }
-            else {
-                end();
-            }
+        try (HandHistoryWriter writer = new HandHistoryWriter(history)) {
+            System.out.println(Simulation.run(games, Game::strategies, new SplittableRandom(),
+                    () -> new HandHistoryRecorder(writer)));
+            System.out.println("Hand history is written to " + history);
         }
-        else {
-            System.out.println("Please enter valid input!");
-            askForPlayingAgain();
+        catch (IOException ex) {
+            System.out.println("Could not write hand history: " + ex.getMessage());
         }
     }
-    /**
-     * Deals cards after initial bets are made and starts new round of the game.
-     * Starts by resetting deck and takes "blind" bets from players. If bets are
-     * places then adds 5 cards to each player hand. Game continues to showing
-     * cards for the first time.
-     */
-    private void dealCards() {
-
-        System.out.println("-------- Round started ---------");
-
-        //Start new round
-        roundOver = false;
-        cd.resetDeck();
-
-        System.out.println("Blind bets are added!");
-        bet(1);
-
-        player1.setHand(new Hand(cd.getRandomCards(5)));
-        player2.setHand(new Hand(cd.getRandomCards(5)));
-
-        //Show cards to player
-        openCards();
-        askForAdditionalBets();
-    }
 
     /**
-     * Checks if players chip count is not 0 and then asks player for another bets
-     * in addition to blind bet. If chip count is 0 then skips asking for bets and
-     * finishes round by showing and comparing cards.
+     * Reads hand history of directory and prints its aggregates.
+     * @param history directory of hand history
      */
-    private void askForAdditionalBets() {
+    private static void analyzeHistory(Path history) {
 
-        if (player1.getChips() != 0 && player2.getChips() != 0) {
-            System.out.println("Would you like to raise bet? Enter an integer number for raising bet or enter letter \"n\"");
-            askForBet();
+        try {
+            System.out.println(HandHistoryReader.analyze(history));
         }
-        else {
-            roundOver = true;
-
-            if (player1.getChips() == 0) {
-                System.out.println("You went All In with blind bet.");
-            }
-            else {
-                System.out.println("Your opponent went All In with blind bet.");
-            }
-            openCards();
+        catch (IOException ex) {
+            System.out.println("Could not read hand history: " + ex.getMessage());
         }
     }
 
     /**
-     * Prompts to ask bets. Reads user input and if input is "n" then finishes round by
-     * comparing and showing cards to each other. If input is an integer then bets chips
-     * by integer size and then proceeds with opening players cards.
-     * If input is not "n" or an integer then asks for input again.
+     * @return player who raises with two pairs or better and player who raises with any pair
      */
-    private void askForBet() {
-
-        String input = reader.nextLine();
-
-        if (input.equals("n")) {
-            roundOver = true;
-            openCards();
-        }
-        else if (input.matches("[0-9]+")) {
-
-            int inputI = Integer.parseInt(input);
-
-            if (player1.getChips() < inputI || player2.getChips() < inputI) {
-                if (player1.getChips() < inputI) {
-                    System.out.println("You only have " + player1.getChips() + " chips. Please try again!");
-                }
-                else if (player2.getChips() < inputI) {
-                    System.out.println("Your opponent only has " + player2.getChips() + " chips. Please try again!");
-                }
-                askForBet();
-            }
-            else {
-                roundOver = true;
-                bet(inputI);
-                openCards();
-            }
-        }
-        else {
-            System.out.println("Please enter an integer number or letter \"n\"!");
-            askForBet();
-        }
+    private static List<PlayerStrategy> strategies() {
+        return Arrays.asList(new RaisingStrategy(PokerHand.TWO_PAIRS, 5), new RaisingStrategy(PokerHand.ONE_PAIR, 2));
     }
 
     /**
-     *  Places bet with given input size to the chip pool in game. Removes amount of
-     *  chips from each player.
-     * @param betSize chip count for betting.
+     * Hosts tables for local socket players until console input ends.
+     * @param port local port to accept players from
+     * @param threads count of worker threads that run tables
      */
-    private void bet(int betSize) {
-
-        player1.setChips(player1.getChips() - betSize);
-        player2.setChips(player2.getChips() - betSize);
+    private static void serve(int port, int threads) {
 
-        chipsInPlay += betSize * 2;
+        try (TableServer server = new TableServer(threads, getSeats(), DrawSolverStrategy::new);
+             SocketTableServer sockets = new SocketTableServer(server, port)) {
 
-        System.out.println("Both of you bet " + betSize + " chips");
-        System.out.println("New pool size: " + chipsInPlay);
-
-        System.out.println("You now have: " + player1.getChips());
-        System.out.println("Your opponent now has: " + player2.getChips());
+            sockets.start();
+            System.out.println("Accepting players on port " + sockets.getPort() + ". Press enter to stop.");
+            new BufferedReader(new InputStreamReader(System.in)).readLine();
+        }
+        catch (IOException ex) {
+            System.out.println("Could not run server: " + ex.getMessage());
+        }
     }
 
     /**
-     * After player wins round then chips are added to players chip collection.
-     * Also removes all chips from game chip pool.
-     * @param player player to receive chips in game's chip pool
+     * @return count of players at table with human player, from system property poker.seats or 2
      */
-    private void collectBet(Player player) {
-
-        System.out.println("Player " + player.getId() + " received " + chipsInPlay + " chips.");
-        player.setChips(player.getChips() + chipsInPlay);
-        chipsInPlay = 0;
+    private static int getSeats() {
+        return Integer.getInteger("poker.seats", 2);
     }
 
     /**
-     * This method is accessed in rare chance that both players are tied. It takes
-     * chips from game's chip pool and adds half of the pool to both player chips collection.
-     * Removes chips from chip pool.
+     * Solves best discard of every hand and writes table into file.
+     * Solving all hands takes long time and should be done once offline.
+     * @param path file to write table into
      */
-    private void splitBet() {
-
-        int splitedChips = chipsInPlay / 2;
+    private static void buildDrawTable(Path path) {
 
-        System.out.println("Both players have received " + splitedChips + " chips.");
-        player1.setChips(player1.getChips() + splitedChips);
-        player2.setChips(player2.getChips() + splitedChips);
+        System.out.println("Building draw table. This will take a while.");
 
-        chipsInPlay = 0;
+        try {
+            DrawTable.build().write(path);
+            System.out.println("Draw table is written to " + path);
+        }
+        catch (IOException ex) {
+            System.out.println("Could not write draw table: " + ex.getMessage());
+        }
     }
 
     /**
-     * Opens cards and compares them.
-     * Checks if round is over. If round is not over then game shows opponent cards
-     * as asterixes. Your cards are always shown with corresponding ranks and suits.
-     * After cards are displayed, comparation of cards starts.
+     * Builds evaluator tables and writes them into file that JVMs can map with system
+     * property poker.evaluatorTables.
+     * @param path file to write tables into
      */
-    private void openCards() {
+    private static void buildEvaluatorTables(Path path) {
 
-        if (!roundOver) {
-            System.out.println("Opponent's cards: * * * * *");
+        try {
+            EvaluatorTables.build().write(path);
+            System.out.println("Evaluator tables are written to " + path);
         }
-        else {
-            System.out.println("Opponent's cards: " + player2.getHand().toString());
-        }
-
-        System.out.println("Your cards: " + player1.getHand().toString());
-
-        if (roundOver) {
-            compareCards();
+        catch (IOException ex) {
+            System.out.println("Could not write evaluator tables: " + ex.getMessage());
         }
     }
 
     /**
-     * Compares Hands of each player and checks who won this round. Prompts message afterwards
-     * If comparing is done then bets are either collected or splitter by corresponding players.
-     * After bets are collected game continues to check chip counts of the players.
+     * Reads precomputed draw table for computer player. Without table computer player
+     * discards by a simple heuristic, which is told on console.
+     * @param path file of draw table
      */
-    private void compareCards() {
+    private static void loadDrawTable(Path path) {
 
-        if (player1.getHand().compareTo(player2.getHand()) == 1) {
-            System.out.println("Winning hand: " + player1.getHand().getMatchData().getMatch().getValue());
-            System.out.println("You won this hand! Hooraay!!");
-            collectBet(player1);
+        if (!Files.exists(path)) {
+            System.out.println("Draw table " + path + " was not found, computer player discards by heuristic. "
+                    + "Build it with arguments: drawtable " + path);
+            return;
         }
-        else if (player1.getHand().compareTo(player2.getHand()) == -1) {
-            System.out.println("Winning hand: " + player2.getHand().getMatchData().getMatch().getValue());
-            System.out.println("Opponent won this hand! Better luck next time.");
-            collectBet(player2);
+
+        try {
+            DrawSolver.setTable(DrawTable.read(path));
         }
-        else {
-            System.out.println("Hands are tied!");
-            splitBet();
+        catch (IOException ex) {
+            System.out.println("Could not read draw table, computer player discards by heuristic: " + ex.getMessage());
         }
-
-        checkChips();
     }
 
     /**
-     * Checks chip counts of players. If any of the players have 0 chips remaining
-     * game ends. If more than 0 chips are left then new round begins.
+     * Initializes game and plays it on console until player does not want to play again.
+     * If system property poker.history is set then every round is recorded into that directory
+     * and forced to disk as soon as it ends.
      */
-    private void checkChips() {
+    public Game() {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+        GameSession session = new GameSession(new ReaderInput(reader), System.out::println,
+                new DrawSolverStrategy(), new CardDeck(), getSeats());
 
-        if (player1.getChips() == 0) {
-            System.out.println("You have run out of chips! Your opponent has won!");
-            gameOver = true;
+        String history = System.getProperty("poker.history");
+
+        if (history == null) {
+            session.run();
+            return;
         }
-        else if (player2.getChips() == 0) {
-            System.out.println("Your opponent has run out of chips! You won! Congratulations!");
-            gameOver = true;
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(Paths.get(history), HandHistoryWriter.SEGMENT_SIZE,
+                FsyncPolicy.BATCH, HandHistoryWriter.QUEUE_CAPACITY);
+             HandHistoryRecorder recorder = new HandHistoryRecorder(writer, 1, 0)) {
+
+            session.setListener(recorder);
+            session.run();
         }
-        else {
-            dealCards();
+        catch (IOException ex) {
+            System.out.println("Could not write hand history: " + ex.getMessage());
         }
-
-        if (gameOver) { endGame(); }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package analyzers;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * BatchHandEvaluator evaluates many hands at once. Hands are given as bits of CardSet
+ * in a long array and strengths are written into an int array with same indexes.
+ *
+ * Small batches are evaluated in calling thread. Large batches are split into parts
+ * that are evaluated in parallel by ForkJoinPool.
+ * @see HandEvaluator
+ * @see models.CardSet
+ */
+public class BatchHandEvaluator {
+
+    /**
+     * Count of hands that is evaluated in one thread without splitting batch further
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private BatchHandEvaluator() {
+    }
+
+    /**
+     * Evaluates strengths of hands with common ForkJoinPool.
+     *
+     * Throws IllegalArgumentException if strengths array is shorter than hands array.
+     *
+     * @param hands bits of 5 card hands
+     * @param strengths array that is filled with strengths of hands
+     */
+    public static void evaluate(long[] hands, int[] strengths) {
+        evaluate(hands, strengths, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Evaluates strengths of hands with given ForkJoinPool. If there are less hands than
+     * SEQUENTIAL_THRESHOLD then hands are evaluated in calling thread.
+     *
+     * Throws IllegalArgumentException if strengths array is shorter than hands array.
+     *
+     * @param hands bits of 5 card hands
+     * @param strengths array that is filled with strengths of hands
+     * @param pool pool that evaluates large batches
+     */
+    public static void evaluate(long[] hands, int[] strengths, ForkJoinPool pool) {
+
+        if (strengths.length < hands.length) {
+            throw new IllegalArgumentException("Strengths array is shorter than hands array!");
+        }
+
+        if (hands.length <= SEQUENTIAL_THRESHOLD) {
+            evaluate(hands, strengths, 0, hands.length);
+        }
+        else {
+            pool.invoke(new EvaluateTask(hands, strengths, 0, hands.length));
+        }
+    }
+
+    /**
+     * Evaluates strengths of hands between given indexes in calling thread.
+     * @param hands bits of 5 card hands
+     * @param strengths array that is filled with strengths of hands
+     * @param from index of first hand, inclusive
+     * @param to index of last hand, exclusive
+     */
+    public static void evaluate(long[] hands, int[] strengths, int from, int to) {
+        for (int i = from; i < to; i++) {
+            strengths[i] = HandEvaluator.evaluate(hands[i]);
+        }
+    }
+
+    /**
+     * Task that splits its part of batch in half until part is small enough
+     * to be evaluated in one thread.
+     */
+    private static class EvaluateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] hands;
+        private final int[] strengths;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(long[] hands, int[] strengths, int from, int to) {
+            this.hands = hands;
+            this.strengths = strengths;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                evaluate(hands, strengths, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(hands, strengths, from, middle),
+                    new EvaluateTask(hands, strengths, middle, to));
+        }
+    }
+}
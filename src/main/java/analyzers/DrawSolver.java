@@ -0,0 +1,295 @@
+package analyzers;
+
+import enums.PokerHand;
+import models.Card;
+import models.CardSet;
+import models.Hand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * DrawSolver finds which cards should be discarded in draw round of five card draw.
+ *
+ * Every hand has 32 discard options. Option is a 5 bit mask where bit i means that
+ * i-th card of hand in deck order is discarded. Every option is scored by expected
+ * strength of final hand, which is average strength of all hands that can be drawn
+ * from remaining 47 cards. Discarding all 5 cards means 1533939 drawn hands, so
+ * options are enumerated in parallel.
+ *
+ * Solving a hand takes millions of evaluations, so hands are solved offline into a
+ * DrawTable. During the game best option is looked up from the table by suit canonical
+ * form of the hand. If table is not set or hand is not in it, then cards are discarded
+ * by a simple heuristic, which never blocks the calling thread.
+ * @see DrawTable
+ */
+public class DrawSolver {
+
+    /**
+     * Count of discard options of 5 card hand
+     */
+    public static final int OPTIONS = 32;
+
+    private static volatile DrawTable table;
+
+    private DrawSolver() {
+    }
+
+    /**
+     * Sets precomputed table that is used before solving hands.
+     * @param drawTable precomputed best discard options or null to discard by heuristic
+     */
+    public static void setTable(DrawTable drawTable) {
+        table = drawTable;
+    }
+
+    /**
+     * Finds cards that should be discarded from hand.
+     * @param hand hand that consists of 5 cards
+     * @return list of cards to discard, empty list if all cards should be kept
+     */
+    public static List<Card> bestDiscard(Hand hand) {
+
+        List<Card> discard = new ArrayList<>();
+
+        for (Card card : new CardSet(bestDiscard(CardSet.bitsOf(hand.getCards())))) {
+            discard.add(card);
+        }
+        return discard;
+    }
+
+    /**
+     * Finds cards that should be discarded from hand. Option is taken from draw table
+     * or from heuristic if hand is not in table.
+     *
+     * Throws IllegalArgumentException if card count in hand is not 5
+     *
+     * @param handBits bits of 5 cards
+     * @return bits of cards to discard
+     */
+    public static long bestDiscard(long handBits) {
+
+        checkHand(handBits);
+
+        DrawTable drawTable = table;
+
+        if (drawTable != null) {
+            int[] permutation = CardSet.canonicalPermutation(handBits, 0L);
+            long canonical = CardSet.permuteSuits(handBits, permutation);
+            int mask = drawTable.getDiscardMask(canonical);
+
+            if (mask >= 0) {
+                return CardSet.permuteSuits(discardBits(canonical, mask), CardSet.inverse(permutation));
+            }
+        }
+
+        return discardBits(handBits, heuristicDiscardMask(handBits));
+    }
+
+    /**
+     * Finds discard option by simple rules: straight or better is kept, cards that make
+     * pairs or three of a kind are kept, four cards of same suit are kept and otherwise
+     * only the highest card is kept.
+     *
+     * Throws IllegalArgumentException if card count in hand is not 5
+     *
+     * @param handBits bits of 5 cards
+     * @return discard option
+     */
+    public static int heuristicDiscardMask(long handBits) {
+
+        checkHand(handBits);
+
+        PokerHand pokerHand = HandEvaluator.getPokerHand(HandEvaluator.evaluate(handBits));
+
+        if (pokerHand.getRank() >= PokerHand.STRAIGHT.getRank()) {
+            return 0;
+        }
+
+        int[] ranks = new int[5];
+        int[] suits = new int[5];
+        int[] rankCounts = new int[13];
+        int[] suitCounts = new int[4];
+        int position = 0;
+
+        for (long rest = handBits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            int index = CardSet.first(rest);
+            ranks[position] = index % 13;
+            suits[position] = index / 13;
+            rankCounts[ranks[position]]++;
+            suitCounts[suits[position]]++;
+            position++;
+        }
+
+        int mask = 0;
+
+        if (pokerHand != PokerHand.HIGH_CARD) {
+            for (position = 0; position < 5; position++) {
+                if (rankCounts[ranks[position]] == 1) {
+                    mask |= 1 << position;
+                }
+            }
+            return mask;
+        }
+
+        boolean fourFlush = false;
+
+        for (int suitCount : suitCounts) {
+            fourFlush |= suitCount == 4;
+        }
+
+        int highest = 0;
+
+        for (position = 0; position < 5; position++) {
+            if (fourFlush && suitCounts[suits[position]] == 1) {
+                return 1 << position;
+            }
+            if (ranks[position] > ranks[highest]) {
+                highest = position;
+            }
+        }
+
+        return (OPTIONS - 1) & ~(1 << highest);
+    }
+
+    /**
+     * Solves hand and finds discard option with biggest expected strength. If options have
+     * same expected strength then option with smaller mask is taken.
+     *
+     * Throws IllegalArgumentException if card count in hand is not 5
+     *
+     * @param handBits bits of 5 cards
+     * @return best discard option
+     */
+    public static int bestDiscardMask(long handBits) {
+
+        double[] expected = expectedStrengths(handBits);
+        int best = 0;
+
+        for (int mask = 1; mask < OPTIONS; mask++) {
+            if (expected[mask] > expected[best]) {
+                best = mask;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores all 32 discard options of hand by expected strength of final hand.
+     *
+     * Throws IllegalArgumentException if card count in hand is not 5
+     *
+     * @param handBits bits of 5 cards
+     * @return expected strength of every discard option by option mask
+     */
+    public static double[] expectedStrengths(long handBits) {
+
+        checkHand(handBits);
+
+        int[] handCodes = new int[5];
+        int i = 0;
+
+        for (long rest = handBits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            handCodes[i++] = HandEvaluator.encode(CardSet.first(rest));
+        }
+
+        int[] codes = new int[47];
+        i = 0;
+
+        for (long rest = CardSet.FULL_DECK_BITS & ~handBits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            codes[i++] = HandEvaluator.encode(CardSet.first(rest));
+        }
+
+        return IntStream.range(0, OPTIONS)
+                .parallel()
+                .mapToDouble(mask -> expectedStrength(handCodes, mask, codes))
+                .toArray();
+    }
+
+    /**
+     * @param handBits bits of hand
+     * @param mask discard option
+     * @return bits of cards that discard option discards
+     */
+    public static long discardBits(long handBits, int mask) {
+
+        long discard = 0L;
+        int position = 0;
+
+        for (long rest = handBits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            if ((mask & (1 << position++)) != 0) {
+                discard |= CardSet.bit(CardSet.first(rest));
+            }
+        }
+        return discard;
+    }
+
+    /**
+     * Enumerates every hand that discard option can draw and averages their strengths.
+     */
+    private static double expectedStrength(int[] handCodes, int mask, int[] codes) {
+
+        int[] kept = new int[5];
+        int filled = 0;
+
+        for (int position = 0; position < 5; position++) {
+            if ((mask & (1 << position)) == 0) {
+                kept[filled++] = handCodes[position];
+            }
+        }
+
+        int draw = 5 - filled;
+        int start = filled;
+
+        if (draw < 3) {
+            return (double) sumStrengths(kept, filled, codes, 0, draw) / combinations(codes.length, draw);
+        }
+
+        long sum = IntStream.range(0, codes.length - draw + 1)
+                .parallel()
+                .mapToLong(first -> {
+                    int[] cards = kept.clone();
+                    cards[start] = codes[first];
+                    return sumStrengths(cards, start + 1, codes, first + 1, draw - 1);
+                })
+                .sum();
+
+        return (double) sum / combinations(codes.length, draw);
+    }
+
+    /**
+     * Fills remaining places of hand with every combination of codes from index start
+     * and sums strengths of filled hands.
+     */
+    private static long sumStrengths(int[] cards, int filled, int[] codes, int start, int left) {
+
+        if (left == 0) {
+            return HandEvaluator.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4]);
+        }
+
+        long sum = 0;
+
+        for (int i = start; i <= codes.length - left; i++) {
+            cards[filled] = codes[i];
+            sum += sumStrengths(cards, filled + 1, codes, i + 1, left - 1);
+        }
+        return sum;
+    }
+
+    private static long combinations(int n, int k) {
+
+        long result = 1;
+
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+
+    private static void checkHand(long handBits) {
+        if (Long.bitCount(handBits) != 5) {
+            throw new IllegalArgumentException("Hand has to consist of 5 cards!");
+        }
+    }
+}
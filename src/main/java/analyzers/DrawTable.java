@@ -0,0 +1,176 @@
+package analyzers;
+
+import models.CardSet;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Precomputed table of best discard options. Table is keyed by suit canonical form
+ * of 5 card hand, so there are 134459 hands in a full table instead of 2598960.
+ *
+ * Hands are kept in sorted long array and options in byte array with same indexes,
+ * so full table takes about 1.2 MB and lookup is a binary search.
+ *
+ * Building full table solves every hand with DrawSolver and takes long time, so table
+ * should be built offline, written into a file and read by the game.
+ * @see DrawSolver
+ */
+public class DrawTable {
+
+    private static final int MAGIC = 0x504B4454;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 9;
+
+    private final long[] hands;
+    private final byte[] masks;
+
+    private DrawTable(long[] hands, byte[] masks) {
+        this.hands = hands;
+        this.masks = masks;
+    }
+
+    /**
+     * @return suit canonical forms of all 5 card hands in ascending order
+     */
+    public static long[] canonicalHands() {
+
+        return LongStream.range(0, 48)
+                .parallel()
+                .flatMap(first -> {
+                    LongStream.Builder builder = LongStream.builder();
+
+                    for (int b = (int) first + 1; b < 49; b++) {
+                        for (int c = b + 1; c < 50; c++) {
+                            for (int d = c + 1; d < 51; d++) {
+                                for (int e = d + 1; e < 52; e++) {
+                                    long bits = CardSet.bit((int) first) | CardSet.bit(b) | CardSet.bit(c)
+                                            | CardSet.bit(d) | CardSet.bit(e);
+                                    builder.add(CardSet.canonical(bits));
+                                }
+                            }
+                        }
+                    }
+                    return builder.build();
+                })
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Builds table of all 5 card hands.
+     * @return full table
+     */
+    public static DrawTable build() {
+        return build(canonicalHands());
+    }
+
+    /**
+     * Builds table of given hands. Hands are solved in parallel.
+     * @param canonicalHands suit canonical forms of 5 card hands
+     * @return table of given hands
+     */
+    public static DrawTable build(long[] canonicalHands) {
+
+        long[] hands = canonicalHands.clone();
+        Arrays.sort(hands);
+
+        byte[] masks = new byte[hands.length];
+
+        IntStream.range(0, hands.length)
+                .parallel()
+                .forEach(i -> masks[i] = (byte) DrawSolver.bestDiscardMask(hands[i]));
+
+        return new DrawTable(hands, masks);
+    }
+
+    /**
+     * @param canonicalHand suit canonical form of 5 card hand
+     * @return best discard option of hand or -1 if hand is not in table
+     */
+    public int getDiscardMask(long canonicalHand) {
+
+        int index = Arrays.binarySearch(hands, canonicalHand);
+
+        if (index < 0) {
+            return -1;
+        }
+        return masks[index];
+    }
+
+    /**
+     * @return count of hands in table
+     */
+    public int size() {
+        return hands.length;
+    }
+
+    /**
+     * Writes table into file.
+     * @param path file to write
+     * @throws IOException if file can not be written
+     */
+    public void write(Path path) throws IOException {
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(hands.length);
+
+            for (int i = 0; i < hands.length; i++) {
+                out.writeLong(hands[i]);
+                out.writeByte(masks[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads table from file.
+     * @param path file to read
+     * @return table that was written into file
+     * @throws IOException if file can not be read, it is not a draw table or its size does not
+     * match its hand count
+     */
+    public static DrawTable read(Path path) throws IOException {
+
+        long fileSize = Files.size(path);
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("File is not a draw table of version " + VERSION + ": " + path);
+            }
+
+            int size = in.readInt();
+
+            if (size < 0 || HEADER_SIZE + (long) size * ENTRY_SIZE != fileSize) {
+                throw new IOException("Draw table has " + size + " hands but " + fileSize + " bytes: " + path);
+            }
+
+            long[] hands = new long[size];
+            byte[] masks = new byte[size];
+
+            for (int i = 0; i < size; i++) {
+                hands[i] = in.readLong();
+                masks[i] = in.readByte();
+
+                if (i > 0 && hands[i] <= hands[i - 1]) {
+                    throw new IOException("Draw table hands are not sorted: " + path);
+                }
+            }
+
+            return new DrawTable(hands, masks);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package analyzers;
+
+import models.CardSet;
+import models.EquityResult;
+import models.Hand;
+import pools.CardDeck;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * EquityCalculator estimates how often a hand wins, ties or loses against random
+ * opponent hands.
+ *
+ * Monte Carlo estimation deals opponent hands from the remaining cards of a CardDeck.
+ * Deals are run in batches by one worker per core. Every worker has its own deck and
+ * its own random stream, so workers share nothing while dealing. After every batch
+ * standard error of equity is checked and sampling stops when it is small enough.
+ *
+ * Exact calculation enumerates every opponent hand that can be formed from remaining
+ * cards. Enumeration is split by first card of opponent hand and parts are enumerated
+ * in parallel. Results are cached by suit canonical form of hand and dead cards, because
+ * hands that differ only by naming of suits have same equity. Cache keeps EXACT_CACHE_SIZE
+ * most recently used results, because dead cards make count of keys unlimited.
+ */
+public class EquityCalculator {
+
+    /**
+     * Count of deals every worker makes in one batch
+     */
+    static final int BATCH_SIZE = 1000;
+
+    /**
+     * Count of deals that is made before standard error is trusted
+     */
+    static final int MIN_SAMPLES = 2000;
+
+    /**
+     * Default upper limit of deals
+     */
+    public static final long MAX_SAMPLES = 10_000_000;
+
+    /**
+     * Count of exact results that are cached
+     */
+    public static final int EXACT_CACHE_SIZE = 4096;
+
+    private static final Map<CacheKey, EquityResult> EXACT_CACHE = Collections.synchronizedMap(new ExactCache());
+
+    private EquityCalculator() {
+    }
+
+    /**
+     * Calculates exact equity of hand against one opponent by enumerating all opponent hands.
+     * @param hand hand that consists of 5 cards
+     * @return counts of won, tied and lost opponent hands
+     */
+    public static EquityResult exact(Hand hand) {
+        return exact(hand, CardSet.EMPTY);
+    }
+
+    /**
+     * Calculates exact equity of hand against one opponent by enumerating all opponent hands
+     * that can be formed from cards that are not in hand and not in dead cards.
+     * Without dead cards there are 1533939 opponent hands.
+     *
+     * Throws IllegalArgumentException if hand is not 5 cards or there are not enough
+     * cards left for opponent.
+     *
+     * @param hand hand that consists of 5 cards
+     * @param deadCards cards that can not be dealt to opponent
+     * @return counts of won, tied and lost opponent hands
+     */
+    public static EquityResult exact(Hand hand, CardSet deadCards) {
+
+        long handBits = CardSet.bitsOf(hand.getCards());
+        long deadBits = deadCards.getBits() & ~handBits;
+
+        checkHand(hand, new CardSet(handBits | deadBits), 1);
+
+        long[] canonical = CardSet.canonical(handBits, deadBits);
+        CacheKey key = new CacheKey(canonical[0], canonical[1]);
+        EquityResult cached = EXACT_CACHE.get(key);
+
+        if (cached == null) {
+            cached = enumerate(key.handBits, key.deadBits);
+            EXACT_CACHE.putIfAbsent(key, cached);
+        }
+
+        EquityResult result = new EquityResult();
+        result.add(cached);
+        return result;
+    }
+
+    /**
+     * Enumerates all opponent hands of remaining cards in parallel.
+     * @param handBits bits of hand
+     * @param deadBits bits of dead cards
+     * @return counts of won, tied and lost opponent hands
+     */
+    private static EquityResult enumerate(long handBits, long deadBits) {
+
+        int strength = HandEvaluator.evaluate(handBits);
+        long remaining = CardSet.FULL_DECK_BITS & ~handBits & ~deadBits;
+        int[] codes = new int[Long.bitCount(remaining)];
+        int i = 0;
+
+        for (long rest = remaining; rest != 0; rest = CardSet.removeFirst(rest)) {
+            codes[i++] = HandEvaluator.encode(CardSet.first(rest));
+        }
+
+        long[] counts = IntStream.range(0, codes.length - 4)
+                .parallel()
+                .mapToObj(first -> enumerateFrom(codes, first, strength))
+                .reduce(new long[3], (a, b) -> new long[]{a[0] + b[0], a[1] + b[1], a[2] + b[2]});
+
+        EquityResult result = new EquityResult();
+        result.add(counts[0], counts[1], counts[2], 0.5);
+        return result;
+    }
+
+    /**
+     * Compares hand against every opponent hand which lowest card is card at index first.
+     * @return counts of won, tied and lost opponent hands
+     */
+    private static long[] enumerateFrom(int[] codes, int first, int strength) {
+
+        long wins = 0;
+        long ties = 0;
+        long losses = 0;
+        int n = codes.length;
+        int c1 = codes[first];
+
+        for (int b = first + 1; b < n - 3; b++) {
+            int c2 = codes[b];
+            for (int c = b + 1; c < n - 2; c++) {
+                int c3 = codes[c];
+                for (int d = c + 1; d < n - 1; d++) {
+                    int c4 = codes[d];
+                    for (int e = d + 1; e < n; e++) {
+                        int opponentStrength = HandEvaluator.evaluate(c1, c2, c3, c4, codes[e]);
+
+                        if (strength > opponentStrength) {
+                            wins++;
+                        }
+                        else if (strength == opponentStrength) {
+                            ties++;
+                        }
+                        else {
+                            losses++;
+                        }
+                    }
+                }
+            }
+        }
+        return new long[]{wins, ties, losses};
+    }
+
+    /**
+     * Estimates equity of hand against random opponent hands.
+     * @param hand hand that consists of 5 cards
+     * @param opponents count of opponent hands
+     * @param targetStandardError standard error of equity when sampling stops
+     * @return counts of won, tied and lost deals
+     */
+    public static EquityResult monteCarlo(Hand hand, int opponents, double targetStandardError) {
+        return monteCarlo(hand, CardSet.EMPTY, opponents, targetStandardError, MAX_SAMPLES, new SplittableRandom());
+    }
+
+    /**
+     * Estimates equity of hand against random opponent hands. Opponent hands are dealt from
+     * cards that are not in hand and not in dead cards.
+     *
+     * Throws IllegalArgumentException if hand is not 5 cards or there are not enough
+     * cards left for opponents.
+     *
+     * @param hand hand that consists of 5 cards
+     * @param deadCards cards that can not be dealt to opponents
+     * @param opponents count of opponent hands
+     * @param targetStandardError standard error of equity when sampling stops
+     * @param maxSamples count of deals when sampling stops even if standard error is bigger
+     * @param random source of seeds for random streams of workers
+     * @return counts of won, tied and lost deals
+     */
+    public static EquityResult monteCarlo(Hand hand, CardSet deadCards, int opponents, double targetStandardError,
+                                          long maxSamples, SplittableRandom random) {
+
+        CardSet usedCards = CardSet.of(hand).union(deadCards);
+        checkHand(hand, usedCards, opponents);
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        Worker[] workers = new Worker[parallelism];
+
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(hand.getStrength(), usedCards, opponents, random.split());
+        }
+
+        EquityResult result = new EquityResult();
+
+        while (result.getSamples() < maxSamples) {
+
+            Arrays.stream(workers).parallel().forEach(Worker::run);
+
+            for (Worker worker : workers) {
+                result.add(worker.result);
+                worker.result = new EquityResult();
+            }
+
+            if (result.getSamples() >= MIN_SAMPLES && result.getStandardError() <= targetStandardError) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that hand is 5 cards and there are enough cards left for every opponent.
+     */
+    static void checkHand(Hand hand, CardSet usedCards, int opponents) {
+
+        if (hand == null || hand.getStrength() == 0) {
+            throw new IllegalArgumentException("Hand has to consist of 5 cards!");
+        }
+
+        if (opponents < 1 || (52 - usedCards.size()) < opponents * 5) {
+            throw new IllegalArgumentException("Not enough cards for " + opponents + " opponents!");
+        }
+    }
+
+    /**
+     * Key of exact equity cache with canonical bits of hand and dead cards
+     */
+    private static final class CacheKey {
+
+        private final long handBits;
+        private final long deadBits;
+
+        CacheKey(long handBits, long deadBits) {
+            this.handBits = handBits;
+            this.deadBits = deadBits;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey other = (CacheKey) o;
+            return handBits == other.handBits && deadBits == other.deadBits;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(handBits) * 31 + Long.hashCode(deadBits);
+        }
+    }
+
+    /**
+     * Exact results in order of use, least recently used result is removed when cache is full
+     */
+    private static final class ExactCache extends LinkedHashMap<CacheKey, EquityResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        ExactCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, EquityResult> eldest) {
+            return size() > EXACT_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * Worker deals one batch of opponent hands at a time from its own deck.
+     */
+    private static class Worker {
+
+        private final int strength;
+        private final CardSet usedCards;
+        private final int opponents;
+        private final CardDeck deck;
+        private EquityResult result = new EquityResult();
+
+        Worker(int strength, CardSet usedCards, int opponents, SplittableRandom random) {
+            this.strength = strength;
+            this.usedCards = usedCards;
+            this.opponents = opponents;
+            this.deck = new CardDeck(new Random(random.nextLong()));
+        }
+
+        void run() {
+
+            for (int i = 0; i < BATCH_SIZE; i++) {
+
+                deck.resetDeck();
+                deck.removeCards(usedCards);
+
+                int best = 0;
+                int tied = 0;
+
+                for (int opponent = 0; opponent < opponents; opponent++) {
+
+                    int opponentStrength = HandEvaluator.evaluate(deck.getRandomBits(5));
+
+                    if (opponentStrength > best) {
+                        best = opponentStrength;
+                        tied = 1;
+                    }
+                    else if (opponentStrength == best) {
+                        tied++;
+                    }
+                }
+
+                if (strength > best) {
+                    result.addWin();
+                }
+                else if (strength == best) {
+                    result.addTie(1.0 / (tied + 1));
+                }
+                else {
+                    result.addLoss();
+                }
+            }
+        }
+    }
+}
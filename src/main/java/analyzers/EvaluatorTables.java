@@ -0,0 +1,460 @@
+package analyzers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Lookup tables of HandEvaluator and OmahaEvaluator.
+ *
+ * Tables are kept in one buffer with layout of tables file, so they can be built in memory or
+ * mapped read-only from a file. Mapped file is shared by all JVMs of a host through the page
+ * cache and nothing has to be built on start. File is following, all numbers in little endian:
+ * <pre>
+ *     int   magic "PKEV"
+ *     int   version
+ *     int   length of tables in bytes
+ *     int   CRC32 of tables
+ *     short flushes[8192]        strength of flush by rank bits
+ *     short unique5[8192]        strength of five different ranks by rank bits
+ *     int   hashKeys[16384]      products of rank primes of paired hands
+ *     short hashValues[16384]    strengths of paired hands by slot of product
+ *     short omaha[455 * 91]      strength of rank triple and rank pair without flush
+ * </pre>
+ *
+ * If system property poker.evaluatorTables is set then tables are mapped from that file. If file
+ * does not exist or is not valid then tables are built and written into that file for next start,
+ * and the reason is logged. If property is not set then every JVM builds tables on class load of
+ * HandEvaluator, which blocks first evaluation for about 75 ms on a cold JVM. There is no default
+ * file, because a file in a shared directory could be replaced by another user.
+ * @see HandEvaluator
+ * @see OmahaEvaluator
+ */
+public class EvaluatorTables {
+
+    /**
+     * Version of tables file. Must be changed when layout or content of tables changes.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * System property of tables file path
+     */
+    public static final String PATH_PROPERTY = "poker.evaluatorTables";
+
+    static final int OMAHA_PAIRS = 91;
+    static final int OMAHA_TRIPLES = 455;
+
+    private static final int HASH_SIZE = 1 << 14;
+    private static final int HASH_MASK = HASH_SIZE - 1;
+    private static final int MAGIC = 0x56454B50;
+    private static final int HEADER = 16;
+    private static final int FLUSHES_OFFSET = HEADER;
+    private static final int UNIQUE5_OFFSET = FLUSHES_OFFSET + (1 << 13) * 2;
+    private static final int HASH_KEYS_OFFSET = UNIQUE5_OFFSET + (1 << 13) * 2;
+    private static final int HASH_VALUES_OFFSET = HASH_KEYS_OFFSET + HASH_SIZE * 4;
+    private static final int OMAHA_OFFSET = HASH_VALUES_OFFSET + HASH_SIZE * 2;
+    private static final int SIZE = OMAHA_OFFSET + OMAHA_TRIPLES * OMAHA_PAIRS * 2;
+
+    private static final Logger LOG = Logger.getLogger(EvaluatorTables.class.getName());
+
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int[] STRAIGHTS = {0x100F, 0x1F, 0x3E, 0x7C, 0xF8, 0x1F0, 0x3E0, 0x7C0, 0xF80, 0x1F00};
+
+    final ShortBuffer flushes;
+    final ShortBuffer unique5;
+    final IntBuffer hashKeys;
+    final ShortBuffer hashValues;
+    final ShortBuffer omaha;
+
+    private final ByteBuffer buffer;
+    private final boolean mapped;
+
+    private EvaluatorTables(ByteBuffer buffer, boolean mapped) {
+
+        this.buffer = buffer;
+        this.mapped = mapped;
+
+        flushes = slice(buffer, FLUSHES_OFFSET, UNIQUE5_OFFSET).asShortBuffer();
+        unique5 = slice(buffer, UNIQUE5_OFFSET, HASH_KEYS_OFFSET).asShortBuffer();
+        hashKeys = slice(buffer, HASH_KEYS_OFFSET, HASH_VALUES_OFFSET).asIntBuffer();
+        hashValues = slice(buffer, HASH_VALUES_OFFSET, OMAHA_OFFSET).asShortBuffer();
+        omaha = slice(buffer, OMAHA_OFFSET, SIZE).asShortBuffer();
+    }
+
+    /**
+     * Loads tables from file of system property poker.evaluatorTables. If property is not set
+     * then tables are built in memory.
+     * @return tables for evaluators
+     */
+    public static EvaluatorTables load() {
+
+        String path = System.getProperty(PATH_PROPERTY);
+
+        if (path == null) {
+            return build();
+        }
+        return load(Paths.get(path));
+    }
+
+    /**
+     * Maps tables from file. If file does not exist or it is not a valid tables file of
+     * current version then tables are built and written into file. If file can not be
+     * written then built tables are used from memory. Invalid file and failed write are logged.
+     * @param path tables file
+     * @return tables for evaluators
+     */
+    public static EvaluatorTables load(Path path) {
+
+        if (Files.exists(path)) {
+            try {
+                return map(path);
+            }
+            catch (IOException ex) {
+                LOG.log(Level.WARNING, "Evaluator tables are built again, file can not be mapped: " + path, ex);
+            }
+        }
+
+        EvaluatorTables tables = build();
+
+        try {
+            tables.write(path);
+        }
+        catch (IOException ex) {
+            LOG.log(Level.WARNING, "Evaluator tables are used from memory, file can not be written: " + path, ex);
+        }
+        return tables;
+    }
+
+    /**
+     * Maps tables file read-only into memory and checks its header and checksum.
+     * @param path tables file
+     * @return tables that are backed by file
+     * @throws IOException if file can not be read or it is not a tables file of current version
+     */
+    public static EvaluatorTables map(Path path) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            if (channel.size() != SIZE) {
+                throw new IOException("File is not evaluator tables of version " + VERSION + ": " + path);
+            }
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != SIZE - HEADER) {
+                throw new IOException("File is not evaluator tables of version " + VERSION + ": " + path);
+            }
+
+            if (buffer.getInt(12) != checksum(buffer)) {
+                throw new IOException("Checksum of evaluator tables does not match: " + path);
+            }
+
+            return new EvaluatorTables(buffer, true);
+        }
+    }
+
+    /**
+     * Builds all tables in memory.
+     * @return tables that are not backed by file
+     */
+    public static EvaluatorTables build() {
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, SIZE - HEADER);
+
+        EvaluatorTables tables = new EvaluatorTables(buffer, false);
+        tables.fill();
+
+        buffer.putInt(12, checksum(buffer));
+
+        return tables;
+    }
+
+    /**
+     * Writes tables into file. Tables are written into temporary file first and moved
+     * in place, so other processes never map a half written file.
+     * @param path file to write
+     * @throws IOException if file can not be written
+     */
+    public void write(Path path) throws IOException {
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+
+                ByteBuffer content = buffer.duplicate();
+                content.clear();
+
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @return true if tables are mapped from file
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Mixes bits of product so that products of ranks spread evenly over hash table.
+     */
+    private static int hash(int product) {
+        return (product * 0x9E3779B9 >>> 18) & HASH_MASK;
+    }
+
+    /**
+     * Finds strength of paired hand by product of its rank primes. Probing stops at first
+     * empty slot, so product that no hand has, for example of five cards of one rank, gives 0.
+     * @param product product of rank primes of five cards
+     * @return strength of paired hand or 0 if product is not in table
+     */
+    int lookupProduct(int product) {
+
+        int slot = hash(product);
+
+        for (int key; (key = hashKeys.get(slot)) != product; slot = (slot + 1) & HASH_MASK) {
+            if (key == 0) {
+                return 0;
+            }
+        }
+
+        return hashValues.get(slot);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int from, int to) {
+
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(from);
+        duplicate.limit(to);
+
+        return duplicate.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int checksum(ByteBuffer buffer) {
+
+        ByteBuffer content = buffer.duplicate();
+        content.position(HEADER);
+        content.limit(SIZE);
+
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Builds all tables in order of ascending strength. Every hand category is built from its weakest
+     * hand to its strongest. Rank bit patterns of five different ranks are compared as integers, which
+     * gives same result as comparing their ranks one by one in descending order.
+     */
+    private void fill() {
+
+        int[] distinct = new int[1277];
+        int count = 0;
+
+        for (int bits = 0; bits < (1 << 13); bits++) {
+            if (Integer.bitCount(bits) == 5 && !isStraight(bits)) {
+                distinct[count++] = bits;
+            }
+        }
+
+        int strength = 0;
+
+        //High cards
+        for (int bits : distinct) {
+            unique5.put(bits, (short) ++strength);
+        }
+
+        //One pair
+        for (int pair = 0; pair < 13; pair++) {
+            for (int kickers = 0; kickers < (1 << 13); kickers++) {
+                if (Integer.bitCount(kickers) == 3 && (kickers & (1 << pair)) == 0) {
+                    put(prime(pair) * prime(pair) * productOf(kickers), ++strength);
+                }
+            }
+        }
+
+        //Two pairs
+        for (int high = 1; high < 13; high++) {
+            for (int low = 0; low < high; low++) {
+                for (int kicker = 0; kicker < 13; kicker++) {
+                    if (kicker != high && kicker != low) {
+                        put(prime(high) * prime(high) * prime(low) * prime(low) * prime(kicker), ++strength);
+                    }
+                }
+            }
+        }
+
+        //Three of a kind
+        for (int trips = 0; trips < 13; trips++) {
+            for (int kickers = 0; kickers < (1 << 13); kickers++) {
+                if (Integer.bitCount(kickers) == 2 && (kickers & (1 << trips)) == 0) {
+                    put(prime(trips) * prime(trips) * prime(trips) * productOf(kickers), ++strength);
+                }
+            }
+        }
+
+        //Straights
+        for (int bits : STRAIGHTS) {
+            unique5.put(bits, (short) ++strength);
+        }
+
+        //Flushes
+        for (int bits : distinct) {
+            flushes.put(bits, (short) ++strength);
+        }
+
+        //Full houses
+        for (int trips = 0; trips < 13; trips++) {
+            for (int pair = 0; pair < 13; pair++) {
+                if (pair != trips) {
+                    put(prime(trips) * prime(trips) * prime(trips) * prime(pair) * prime(pair), ++strength);
+                }
+            }
+        }
+
+        //Four of a kind
+        for (int quads = 0; quads < 13; quads++) {
+            for (int kicker = 0; kicker < 13; kicker++) {
+                if (kicker != quads) {
+                    int quadPrime = prime(quads);
+                    put(quadPrime * quadPrime * quadPrime * quadPrime * prime(kicker), ++strength);
+                }
+            }
+        }
+
+        //Straight flushes and royal flush
+        for (int bits : STRAIGHTS) {
+            flushes.put(bits, (short) ++strength);
+        }
+
+        fillOmaha();
+    }
+
+    /**
+     * Builds strengths of all rank triples and rank pairs of Omaha. Pairs are in order
+     * r1 &lt;= r2 and triples in order r1 &lt;= r2 &lt;= r3, same as indexes of OmahaEvaluator.
+     * Combinations where a rank occurs more than 4 times can not be dealt and are left 0.
+     */
+    private void fillOmaha() {
+
+        int[] pairProducts = new int[OMAHA_PAIRS];
+        int[] pairRanks = new int[OMAHA_PAIRS];
+        int pairs = 0;
+
+        for (int r1 = 0; r1 < 13; r1++) {
+            for (int r2 = r1; r2 < 13; r2++) {
+                pairProducts[pairs] = prime(r1) * prime(r2);
+                pairRanks[pairs++] = (1 << r1) | (1 << r2);
+            }
+        }
+
+        int triples = 0;
+
+        for (int r1 = 0; r1 < 13; r1++) {
+            for (int r2 = r1; r2 < 13; r2++) {
+                for (int r3 = r2; r3 < 13; r3++) {
+
+                    int product = prime(r1) * prime(r2) * prime(r3);
+                    int ranks = (1 << r1) | (1 << r2) | (1 << r3);
+
+                    for (int pair = 0; pair < OMAHA_PAIRS; pair++) {
+                        int strength = strengthOf(ranks | pairRanks[pair], product * pairProducts[pair]);
+                        omaha.put(triples * OMAHA_PAIRS + pair, (short) strength);
+                    }
+                    triples++;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param ranks rank bits of 5 cards
+     * @param product product of rank primes of 5 cards
+     * @return strength of 5 cards of mixed suits or 0 if a rank occurs more than 4 times
+     */
+    private int strengthOf(int ranks, int product) {
+
+        if (Integer.bitCount(ranks) == 5) {
+            return unique5.get(ranks);
+        }
+
+        for (int prime : PRIMES) {
+            if (product % (prime * prime * prime * prime * prime) == 0) {
+                return 0;
+            }
+        }
+        return lookupProduct(product);
+    }
+
+    private static boolean isStraight(int bits) {
+
+        for (int straight : STRAIGHTS) {
+            if (bits == straight) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int prime(int rank) {
+        return PRIMES[rank];
+    }
+
+    private static int productOf(int bits) {
+
+        int product = 1;
+
+        for (int rank = 0; rank < 13; rank++) {
+            if ((bits & (1 << rank)) != 0) {
+                product *= prime(rank);
+            }
+        }
+        return product;
+    }
+
+    private void put(int product, int strength) {
+
+        int slot = hash(product);
+
+        while (hashKeys.get(slot) != 0) {
+            slot = (slot + 1) & HASH_MASK;
+        }
+
+        hashKeys.put(slot, product);
+        hashValues.put(slot, (short) strength);
+    }
+}
@@ -0,0 +1,129 @@
+package analyzers;
+
+import enums.PokerHand;
+import models.CardSet;
+import models.EnumerationResult;
+import pools.CardDeck;
+
+import java.util.stream.IntStream;
+
+/**
+ * HandEnumeration walks every 5 card combination of a deck and classifies every hand.
+ * Work is split by first card of combination and parts are enumerated in parallel
+ * on all cores. Every part counts its hands separately and counts are merged at the end.
+ *
+ * Enumerating full deck gives 2598960 hands and 7462 distinct strengths, so this can
+ * be used to check category frequencies and to measure evaluator throughput.
+ */
+public class HandEnumeration {
+
+    private HandEnumeration() {
+    }
+
+    /**
+     * Enumerates all hands of a full deck created by CardDeck.
+     * @return counts of every PokerHand category with elapsed time
+     */
+    public static EnumerationResult enumerate() {
+        return enumerate(new CardDeck().getRemainingCards());
+    }
+
+    /**
+     * Enumerates all 5 card hands that can be formed from given cards.
+     * @param cards cards to form hands from
+     * @return counts of every PokerHand category with elapsed time
+     */
+    public static EnumerationResult enumerate(CardSet cards) {
+
+        long start = System.nanoTime();
+
+        int[] codes = new int[cards.size()];
+        int i = 0;
+
+        for (long rest = cards.getBits(); rest != 0; rest = CardSet.removeFirst(rest)) {
+            codes[i++] = HandEvaluator.encode(CardSet.first(rest));
+        }
+
+        Counts counts = IntStream.range(0, Math.max(0, codes.length - 4))
+                .parallel()
+                .mapToObj(first -> enumerateFrom(codes, first))
+                .reduce(new Counts(), Counts::merge);
+
+        EnumerationResult result = new EnumerationResult();
+
+        for (PokerHand pokerHand : PokerHand.values()) {
+            result.setCount(pokerHand, counts.categories[pokerHand.ordinal()]);
+        }
+
+        int distinctStrengths = 0;
+
+        for (boolean seen : counts.strengths) {
+            if (seen) {
+                distinctStrengths++;
+            }
+        }
+
+        result.setDistinctStrengths(distinctStrengths);
+        result.setElapsedNanos(System.nanoTime() - start);
+
+        return result;
+    }
+
+    /**
+     * Enumerates every hand which lowest card is card at index first.
+     * @param codes encoded cards
+     * @param first index of lowest card in codes
+     * @return counts of enumerated hands
+     */
+    private static Counts enumerateFrom(int[] codes, int first) {
+
+        Counts counts = new Counts();
+        int[] strengthCounts = new int[HandEvaluator.STRENGTH_CLASSES + 1];
+        int n = codes.length;
+        int c1 = codes[first];
+
+        for (int b = first + 1; b < n - 3; b++) {
+            int c2 = codes[b];
+            for (int c = b + 1; c < n - 2; c++) {
+                int c3 = codes[c];
+                for (int d = c + 1; d < n - 1; d++) {
+                    int c4 = codes[d];
+                    for (int e = d + 1; e < n; e++) {
+                        strengthCounts[HandEvaluator.evaluate(c1, c2, c3, c4, codes[e])]++;
+                    }
+                }
+            }
+        }
+
+        for (int strength = 1; strength < strengthCounts.length; strength++) {
+            if (strengthCounts[strength] > 0) {
+                counts.strengths[strength] = true;
+                counts.categories[HandEvaluator.getPokerHand(strength).ordinal()] += strengthCounts[strength];
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Counts of one part of enumeration
+     */
+    private static class Counts {
+
+        private final long[] categories = new long[PokerHand.values().length];
+        private final boolean[] strengths = new boolean[HandEvaluator.STRENGTH_CLASSES + 1];
+
+        private Counts merge(Counts other) {
+
+            Counts merged = new Counts();
+
+            for (int i = 0; i < categories.length; i++) {
+                merged.categories[i] = categories[i] + other.categories[i];
+            }
+            for (int i = 0; i < strengths.length; i++) {
+                merged.strengths[i] = strengths[i] || other.strengths[i];
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package analyzers;
+
+import enums.PokerHand;
+import models.Card;
+import models.CardSet;
+import models.Hand;
+
+import java.nio.ShortBuffer;
+import java.util.List;
+
+/**
+ * HandEvaluator maps any 5 cards straight to one of the 7462 equivalence classes of five card poker.
+ *
+ * Strength of a hand is an integer from 1 (7-5-4-3-2 of mixed suits) to 7462 (Royal Flush). Stronger hand
+ * always has bigger strength and hands with same strength are tied.
+ *
+ * Cards are encoded into integers before evaluation. Encoding is following:
+ * <pre>
+ *     xxxbbbbb bbbbbbbb cdhsrrrr xxpppppp
+ *
+ *     p = prime number of rank (deuce = 2, trey = 3, four = 5, ..., ace = 41)
+ *     r = rank of card (deuce = 0, trey = 1, four = 2, ..., ace = 12)
+ *     cdhs = suit bit of card
+ *     b = bit turned on depending on rank of card
+ * </pre>
+ *
+ * Evaluation uses three tables that are loaded once on class load:
+ * flush table that is indexed by rank bits of a flush, unique rank table that is indexed by rank bits
+ * of five different ranks and hashed table that maps product of rank primes of paired hands to strength.
+ * Tables are built in memory or mapped from a tables file.
+ * @see EvaluatorTables
+ */
+public class HandEvaluator {
+
+    /**
+     * Count of different hand strengths in five card poker
+     */
+    public static final int STRENGTH_CLASSES = 7462;
+
+    /**
+     * Prime numbers of ranks. Product of rank primes is unique for every rank multiset.
+     */
+    static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+
+    /**
+     * Highest strengths of every PokerHand category from HIGH_CARD to ROYAL_FLUSH
+     */
+    private static final int[] CATEGORY_LIMITS = {1277, 4137, 4995, 5853, 5863, 7140, 7296, 7452, 7461, 7462};
+
+    private static final PokerHand[] CATEGORIES = {
+            PokerHand.HIGH_CARD,
+            PokerHand.ONE_PAIR,
+            PokerHand.TWO_PAIRS,
+            PokerHand.THREE_OF_A_KIND,
+            PokerHand.STRAIGHT,
+            PokerHand.FLUSH,
+            PokerHand.FULL_HOUSE,
+            PokerHand.FOUR_OF_A_KIND,
+            PokerHand.STRAIGHT_FLUSH,
+            PokerHand.ROYAL_FLUSH
+    };
+
+    /**
+     * Encoded cards by card index
+     */
+    private static final int[] CARD_CODES = new int[52];
+
+    /**
+     * Tables of HandEvaluator and OmahaEvaluator
+     */
+    static final EvaluatorTables TABLES = EvaluatorTables.load();
+
+    private static final ShortBuffer FLUSHES = TABLES.flushes;
+    private static final ShortBuffer UNIQUE5 = TABLES.unique5;
+
+    static {
+        for (int index = 0; index < CARD_CODES.length; index++) {
+            CARD_CODES[index] = encode(index % 13, index / 13);
+        }
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * Encodes card into integer that evaluator uses.
+     * @param card card to encode
+     * @return encoded card
+     */
+    public static int encode(Card card) {
+        return card.getCode();
+    }
+
+    /**
+     * Encodes card into integer that evaluator uses.
+     * @param rank rank of card from 0 (deuce) to 12 (ace)
+     * @param suit suit of card from 0 to 3
+     * @return encoded card
+     */
+    public static int encode(int rank, int suit) {
+        return (1 << (16 + rank)) | (0x1000 << suit) | (rank << 8) | PRIMES[rank];
+    }
+
+    /**
+     * Encodes card by its index into integer that evaluator uses.
+     * @param index index of card from 0 to 51
+     * @return encoded card
+     * @see Card#getIndex()
+     */
+    public static int encode(int index) {
+        return CARD_CODES[index];
+    }
+
+    /**
+     * Evaluates strength of five encoded cards.
+     *
+     * Returns 0 if same card is given more than once
+     *
+     * @see #encode(Card)
+     * @return strength of hand from 1 to 7462
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5) {
+
+        int rankBits = (c1 | c2 | c3 | c4 | c5) >>> 16;
+
+        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0) {
+            return FLUSHES.get(rankBits);
+        }
+
+        int strength = UNIQUE5.get(rankBits);
+
+        if (strength != 0) {
+            return strength;
+        }
+
+        // Same card twice can not be a flush or five different ranks, so it is checked only here
+        if (c1 == c2 || c1 == c3 || c1 == c4 || c1 == c5 || c2 == c3
+                || c2 == c4 || c2 == c5 || c3 == c4 || c3 == c5 || c4 == c5) {
+            return 0;
+        }
+
+        return lookupProduct((c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF));
+    }
+
+    /**
+     * Evaluates strength of 5 cards in bits of a CardSet.
+     *
+     * Returns 0 if card count in bits is not 5
+     *
+     * @see models.CardSet
+     * @param bits bits of 5 cards
+     * @return strength of cards from 1 to 7462
+     */
+    public static int evaluate(long bits) {
+
+        if (Long.bitCount(bits) != 5) {
+            return 0;
+        }
+
+        int c1 = CARD_CODES[CardSet.first(bits)];
+        bits = CardSet.removeFirst(bits);
+        int c2 = CARD_CODES[CardSet.first(bits)];
+        bits = CardSet.removeFirst(bits);
+        int c3 = CARD_CODES[CardSet.first(bits)];
+        bits = CardSet.removeFirst(bits);
+        int c4 = CARD_CODES[CardSet.first(bits)];
+        bits = CardSet.removeFirst(bits);
+        int c5 = CARD_CODES[CardSet.first(bits)];
+
+        return evaluate(c1, c2, c3, c4, c5);
+    }
+
+    /**
+     * Evaluates strength of a CardSet of 5 cards.
+     *
+     * Returns 0 if card count in set is not 5
+     *
+     * @param cardSet set of 5 cards
+     * @return strength of cards from 1 to 7462
+     */
+    public static int evaluate(CardSet cardSet) {
+        return evaluate(cardSet.getBits());
+    }
+
+    /**
+     * Evaluates strength of a list of 5 cards.
+     *
+     * Returns 0 if list does not exist, card count in list is not 5 or same card is in list twice
+     *
+     * @param cards list of 5 cards
+     * @return strength of cards from 1 to 7462
+     */
+    public static int evaluate(List<Card> cards) {
+
+        if (cards == null || cards.size() != 5) {
+            return 0;
+        }
+
+        return evaluate(encode(cards.get(0)), encode(cards.get(1)), encode(cards.get(2)),
+                encode(cards.get(3)), encode(cards.get(4)));
+    }
+
+    /**
+     * Evaluates strength of a Hand.
+     *
+     * Returns 0 if hand does not exist or card count in hand is not 5
+     *
+     * @param hand hand that consists of 5 cards in a list
+     * @return strength of hand from 1 to 7462
+     */
+    public static int evaluate(Hand hand) {
+
+        if (hand == null) {
+            return 0;
+        }
+
+        return evaluate(hand.getCards());
+    }
+
+    /**
+     * Gets PokerHand category of given strength.
+     *
+     * Returns null if strength is not between 1 and 7462.
+     *
+     * @param strength strength of a hand
+     * @return PokerHand of given strength
+     */
+    public static PokerHand getPokerHand(int strength) {
+
+        if (strength < 1 || strength > STRENGTH_CLASSES) {
+            return null;
+        }
+
+        int category = 0;
+
+        while (strength > CATEGORY_LIMITS[category]) {
+            category++;
+        }
+
+        return CATEGORIES[category];
+    }
+
+    /**
+     * @param rankBits rank bits of five different ranks of same suit
+     * @return strength of flush or straight flush
+     */
+    static int evaluateFlush(int rankBits) {
+        return FLUSHES.get(rankBits);
+    }
+
+    /**
+     * @param rankBits rank bits of five different ranks of mixed suits
+     * @return strength of high card or straight
+     */
+    static int evaluateUnique(int rankBits) {
+        return UNIQUE5.get(rankBits);
+    }
+
+    /**
+     * Finds strength of paired hand by product of its rank primes.
+     * @param product product of rank primes of five cards
+     * @return strength of paired hand or 0 if no hand has that product
+     */
+    static int lookupProduct(int product) {
+        return TABLES.lookupProduct(product);
+    }
+}
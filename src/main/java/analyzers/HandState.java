@@ -0,0 +1,284 @@
+package analyzers;
+
+import enums.PokerHand;
+import models.Card;
+import models.CardSet;
+
+/**
+ * HandState keeps counts of cards up to date while cards are added one at a time, for example
+ * as CardDeck deals them, as draw replacements arrive or as board cards are turned. Last added
+ * card can be popped, so enumeration can walk a search tree with one state:
+ * <pre>
+ *     state.add(card);
+ *     ... evaluate or go deeper ...
+ *     state.pop();
+ * </pre>
+ *
+ * State keeps rank counts, suit counts, rank bits of every suit and rank bits of ranks that occur
+ * at least 1, 2, 3 and 4 times. Adding and removing a card updates only counts of its rank and suit.
+ * Strength of 5 to 7 cards is picked from these masks without looking at cards again, same way as
+ * SevenCardEvaluator does, and is same as strength of best hand of SevenCardEvaluator.
+ *
+ * Ranks are from 0 (deuce) to 12 (ace) and suits from 0 to 3, same as card index = suit * 13 + rank.
+ * State is not thread safe, every thread should use its own state.
+ * @see SevenCardEvaluator
+ */
+public class HandState {
+
+    /**
+     * Rank counts in 4 bits per rank
+     */
+    private long rankCounts;
+
+    /**
+     * Suit counts in 8 bits per suit
+     */
+    private int suitCounts;
+
+    /**
+     * Rank bits of ranks that occur at least index + 1 times
+     */
+    private final int[] countMasks = new int[4];
+
+    /**
+     * Card indexes in order they were added
+     */
+    private final int[] added = new int[52];
+
+    private int size;
+    private long bits;
+
+    /**
+     * Initializes empty state.
+     */
+    public HandState() {
+    }
+
+    /**
+     * Initializes state with cards in bits of a CardSet.
+     * @param bits bits of cards
+     */
+    public HandState(long bits) {
+        addAll(bits);
+    }
+
+    /**
+     * Adds card to state.
+     *
+     * Throws IllegalArgumentException if card is already in state
+     *
+     * @param index index of card from 0 to 51
+     */
+    public void add(int index) {
+
+        long bit = CardSet.bit(index);
+
+        if ((bits & bit) != 0) {
+            throw new IllegalArgumentException("Card " + CardSet.toCard(index) + " is already in hand!");
+        }
+
+        int rank = index % 13;
+        int shift = rank << 2;
+
+        countMasks[(int) (rankCounts >>> shift) & 0xF] |= 1 << rank;
+        rankCounts += 1L << shift;
+        suitCounts += 1 << ((index / 13) << 3);
+
+        bits |= bit;
+        added[size++] = index;
+    }
+
+    /**
+     * Adds card to state.
+     *
+     * Throws IllegalArgumentException if card is already in state
+     *
+     * @param card card to add
+     */
+    public void add(Card card) {
+        add(card.getIndex());
+    }
+
+    /**
+     * Adds cards to state in order of card indexes.
+     *
+     * Throws IllegalArgumentException if a card is already in state
+     *
+     * @param cardBits bits of cards
+     */
+    public void addAll(long cardBits) {
+        for (long rest = cardBits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            add(CardSet.first(rest));
+        }
+    }
+
+    /**
+     * Removes card that was added last.
+     *
+     * Throws IllegalStateException if state is empty
+     *
+     * @return index of removed card
+     */
+    public int pop() {
+
+        if (size == 0) {
+            throw new IllegalStateException("Hand has no cards to remove!");
+        }
+
+        int index = added[--size];
+        unset(index);
+
+        return index;
+    }
+
+    /**
+     * Removes cards that were added last until given count of cards is left.
+     * @param count count of cards to keep
+     */
+    public void popTo(int count) {
+        while (size > count) {
+            pop();
+        }
+    }
+
+    /**
+     * Removes any card from state, for example a discarded card.
+     *
+     * Throws IllegalArgumentException if card is not in state
+     *
+     * @param index index of card from 0 to 51
+     */
+    public void remove(int index) {
+
+        if ((bits & CardSet.bit(index)) == 0) {
+            throw new IllegalArgumentException("Card " + CardSet.toCard(index) + " is not in hand!");
+        }
+
+        int position = size - 1;
+
+        while (added[position] != index) {
+            position--;
+        }
+
+        System.arraycopy(added, position + 1, added, position, size - position - 1);
+        size--;
+        unset(index);
+    }
+
+    /**
+     * Removes any card from state.
+     *
+     * Throws IllegalArgumentException if card is not in state
+     *
+     * @param card card to remove
+     */
+    public void remove(Card card) {
+        remove(card.getIndex());
+    }
+
+    /**
+     * Removes all cards from state.
+     */
+    public void clear() {
+        popTo(0);
+    }
+
+    /**
+     * Evaluates strength of best 5 card hand of cards in state.
+     *
+     * Returns 0 if there are not 5 to 7 cards in state
+     *
+     * @return strength of best hand from 1 to 7462
+     */
+    public int evaluate() {
+
+        if (size < 5 || size > 7) {
+            return 0;
+        }
+
+        return SevenCardEvaluator.evaluate(flushRanks(), countMasks[0], countMasks[1], countMasks[2], countMasks[3]);
+    }
+
+    /**
+     * Returns null if there are not 5 to 7 cards in state
+     *
+     * @return PokerHand category of best 5 card hand of cards in state
+     */
+    public PokerHand getPokerHand() {
+        return HandEvaluator.getPokerHand(evaluate());
+    }
+
+    /**
+     * @return count of cards in state
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return bits of cards in state
+     */
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * @return cards in state
+     */
+    public CardSet getCards() {
+        return new CardSet(bits);
+    }
+
+    /**
+     * @param rank rank from 0 (deuce) to 12 (ace)
+     * @return count of cards with given rank
+     */
+    public int getRankCount(int rank) {
+        return (int) (rankCounts >>> (rank << 2)) & 0xF;
+    }
+
+    /**
+     * @param suit suit from 0 to 3
+     * @return count of cards with given suit
+     */
+    public int getSuitCount(int suit) {
+        return (suitCounts >>> (suit << 3)) & 0xFF;
+    }
+
+    /**
+     * @param count count of cards from 1 to 4
+     * @return rank bits of ranks that occur at least given count of times
+     */
+    public int getRankMask(int count) {
+        return countMasks[count - 1];
+    }
+
+    private void unset(int index) {
+
+        int rank = index % 13;
+        int shift = rank << 2;
+
+        rankCounts -= 1L << shift;
+        countMasks[(int) (rankCounts >>> shift) & 0xF] &= ~(1 << rank);
+        suitCounts -= 1 << ((index / 13) << 3);
+
+        bits &= ~CardSet.bit(index);
+    }
+
+    /**
+     * Finds suit with 5 to 7 cards by adding 3 to every suit count, which carries into
+     * bit 3 of count only when count is at least 5.
+     * @return rank bits of suit that has at least 5 cards or 0 if there is no flush
+     */
+    private int flushRanks() {
+
+        int flushes = (suitCounts + 0x03030303) & 0x08080808;
+
+        if (flushes == 0) {
+            return 0;
+        }
+
+        int suit = Integer.numberOfTrailingZeros(flushes) >>> 3;
+        return (int) (bits >>> (13 * suit)) & 0x1FFF;
+    }
+}
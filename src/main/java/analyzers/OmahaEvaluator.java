@@ -0,0 +1,305 @@
+package analyzers;
+
+import models.Card;
+import models.CardSet;
+
+import java.nio.ShortBuffer;
+import java.util.List;
+
+/**
+ * OmahaEvaluator finds strength of best Omaha hand. Omaha hand is made of exactly 2 hole cards
+ * and exactly 3 board cards. Player has 4 hole cards, or 5 or 6 in bigger variants, and board
+ * has 3 to 5 cards. Strengths are same as strengths of HandEvaluator.
+ *
+ * With 4 hole cards and 5 board cards there are 6 hole pairs and 10 board triples, that is
+ * 60 hands. Hands are not evaluated one by one:
+ * <ul>
+ *     <li>without flush strength depends only on ranks, so strength of every rank pair and rank
+ *     triple is precomputed into a table of 91 x 455 strengths of EvaluatorTables and every hand
+ *     is one table lookup</li>
+ *     <li>flush is only looked up when a suit has at least 3 board cards and 2 hole cards</li>
+ * </ul>
+ * @see HandEvaluator
+ * @see EvaluatorTables
+ */
+public class OmahaEvaluator {
+
+    private static final int RANK_MASK = 0x1FFF;
+
+    /**
+     * Count of different rank pairs, pairs of same rank included
+     */
+    private static final int PAIRS = EvaluatorTables.OMAHA_PAIRS;
+
+    /**
+     * Rank of card by card index
+     */
+    private static final byte[] RANKS = new byte[52];
+
+    /**
+     * Index of rank pair by rank * 13 + rank, in any order of ranks
+     */
+    private static final short[] PAIR_INDEX = new short[13 * 13];
+
+    /**
+     * Index of rank triple by (rank * 13 + rank) * 13 + rank, in any order of ranks
+     */
+    private static final short[] TRIPLE_INDEX = new short[13 * 13 * 13];
+
+    /**
+     * Strength without flush by triple index * PAIRS + pair index
+     */
+    private static final ShortBuffer STRENGTHS = HandEvaluator.TABLES.omaha;
+
+    static {
+        buildTables();
+    }
+
+    private OmahaEvaluator() {
+    }
+
+    /**
+     * Evaluates strength of best hand of exactly 2 hole cards and 3 board cards.
+     *
+     * Returns 0 if there are not 4 to 6 hole cards, not 3 to 5 board cards or same card
+     * is in hole cards and on board
+     *
+     * @param holeBits bits of hole cards
+     * @param boardBits bits of board cards
+     * @return strength of best hand from 1 to 7462
+     */
+    public static int evaluate(long holeBits, long boardBits) {
+
+        if (!isValid(holeBits, boardBits)) {
+            return 0;
+        }
+
+        // Up to 15 pair indexes are packed into bytes of two longs as index + 1, so 0 ends them
+        long pairs = 0L;
+        long morePairs = 0L;
+        int pairCount = 0;
+
+        for (long a = holeBits; a != 0; a = CardSet.removeFirst(a)) {
+            int rank = RANKS[CardSet.first(a)] * 13;
+
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                long pair = PAIR_INDEX[rank + RANKS[CardSet.first(b)]] + 1;
+
+                if (pairCount < 8) {
+                    pairs |= pair << (pairCount * 8);
+                }
+                else {
+                    morePairs |= pair << ((pairCount - 8) * 8);
+                }
+                pairCount++;
+            }
+        }
+
+        int best = 0;
+
+        for (long c = boardBits; c != 0; c = CardSet.removeFirst(c)) {
+            int rank1 = RANKS[CardSet.first(c)] * 169;
+
+            for (long d = CardSet.removeFirst(c); d != 0; d = CardSet.removeFirst(d)) {
+                int rank2 = rank1 + RANKS[CardSet.first(d)] * 13;
+
+                for (long e = CardSet.removeFirst(d); e != 0; e = CardSet.removeFirst(e)) {
+                    int row = TRIPLE_INDEX[rank2 + RANKS[CardSet.first(e)]] * PAIRS - 1;
+
+                    best = best(row, pairs, best);
+                    best = best(row, morePairs, best);
+                }
+            }
+        }
+
+        int flushSuit = flushSuit(boardBits);
+
+        if (flushSuit >= 0) {
+            best = Math.max(best, evaluateFlush(suitRanks(holeBits, flushSuit), suitRanks(boardBits, flushSuit)));
+        }
+
+        return best;
+    }
+
+    /**
+     * Evaluates strength of best hand of exactly 2 hole cards and 3 board cards.
+     *
+     * Returns 0 if there are not 4 to 6 hole cards, not 3 to 5 board cards or same card
+     * is in hole cards and on board
+     *
+     * @param holeCards cards of player
+     * @param boardCards shared cards on board
+     * @return strength of best hand from 1 to 7462
+     */
+    public static int evaluate(List<Card> holeCards, List<Card> boardCards) {
+        return evaluate(CardSet.bitsOf(holeCards), CardSet.bitsOf(boardCards));
+    }
+
+    /**
+     * Finds 2 hole cards and 3 board cards that make best hand. If several choices make
+     * same strength then any of them is taken.
+     *
+     * Returns 0 if there are not 4 to 6 hole cards, not 3 to 5 board cards or same card
+     * is in hole cards and on board
+     *
+     * @param holeBits bits of hole cards
+     * @param boardBits bits of board cards
+     * @return bits of 5 cards which strength is strength of best hand
+     */
+    public static long bestFive(long holeBits, long boardBits) {
+
+        if (!isValid(holeBits, boardBits)) {
+            return 0L;
+        }
+
+        int[] hole = indexesOf(holeBits);
+        int[] board = indexesOf(boardBits);
+
+        long best = 0L;
+        int bestStrength = 0;
+
+        for (int a = 0; a < hole.length; a++) {
+            for (int b = a + 1; b < hole.length; b++) {
+                for (int c = 0; c < board.length; c++) {
+                    for (int d = c + 1; d < board.length; d++) {
+                        for (int e = d + 1; e < board.length; e++) {
+
+                            int strength = HandEvaluator.evaluate(HandEvaluator.encode(hole[a]), HandEvaluator.encode(hole[b]),
+                                    HandEvaluator.encode(board[c]), HandEvaluator.encode(board[d]), HandEvaluator.encode(board[e]));
+
+                            if (strength > bestStrength) {
+                                bestStrength = strength;
+                                best = CardSet.bit(hole[a]) | CardSet.bit(hole[b])
+                                        | CardSet.bit(board[c]) | CardSet.bit(board[d]) | CardSet.bit(board[e]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param row index of strengths of board triple minus 1
+     * @param pairs pair indexes + 1 packed into bytes from lowest byte
+     * @param best strength that is found before
+     * @return biggest of best and strengths of board triple with pairs
+     */
+    private static int best(int row, long pairs, int best) {
+
+        for (long rest = pairs; rest != 0; rest >>>= 8) {
+
+            int strength = STRENGTHS.get(row + (int) (rest & 0xFF));
+
+            if (strength > best) {
+                best = strength;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Evaluates best flush of 2 hole cards and 3 board cards of one suit.
+     * @param holeRanks rank bits of hole cards of flush suit
+     * @param boardRanks rank bits of board cards of flush suit, at least 3 ranks
+     * @return strength of best flush or 0 if player has less than 2 cards of suit
+     */
+    private static int evaluateFlush(int holeRanks, int boardRanks) {
+
+        if (Integer.bitCount(holeRanks) < 2) {
+            return 0;
+        }
+
+        int best = 0;
+
+        for (int p = holeRanks; p != 0; p &= p - 1) {
+            for (int q = p & (p - 1); q != 0; q &= q - 1) {
+
+                int pair = Integer.lowestOneBit(p) | Integer.lowestOneBit(q);
+
+                for (int a = boardRanks; a != 0; a &= a - 1) {
+                    for (int b = a & (a - 1); b != 0; b &= b - 1) {
+                        for (int c = b & (b - 1); c != 0; c &= c - 1) {
+
+                            int ranks = pair | Integer.lowestOneBit(a) | Integer.lowestOneBit(b) | Integer.lowestOneBit(c);
+                            best = Math.max(best, HandEvaluator.evaluateFlush(ranks));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return suit that has at least 3 board cards or -1 if flush is not possible
+     */
+    private static int flushSuit(long boardBits) {
+
+        for (int suit = 0; suit < 4; suit++) {
+            if (Integer.bitCount(suitRanks(boardBits, suit)) >= 3) {
+                return suit;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValid(long holeBits, long boardBits) {
+
+        int holeCount = Long.bitCount(holeBits);
+        int boardCount = Long.bitCount(boardBits);
+
+        return holeCount >= 4 && holeCount <= 6 && boardCount >= 3 && boardCount <= 5 && (holeBits & boardBits) == 0;
+    }
+
+    private static int[] indexesOf(long bits) {
+
+        int[] indexes = new int[Long.bitCount(bits)];
+        int i = 0;
+
+        for (long rest = bits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            indexes[i++] = CardSet.first(rest);
+        }
+        return indexes;
+    }
+
+    private static int suitRanks(long bits, int suit) {
+        return (int) (bits >>> (13 * suit)) & RANK_MASK;
+    }
+
+    /**
+     * Builds indexes of rank pairs and triples in same order as strengths of EvaluatorTables.
+     */
+    private static void buildTables() {
+
+        for (int index = 0; index < RANKS.length; index++) {
+            RANKS[index] = (byte) (index % 13);
+        }
+
+        int pairs = 0;
+
+        for (int r1 = 0; r1 < 13; r1++) {
+            for (int r2 = r1; r2 < 13; r2++) {
+                PAIR_INDEX[r1 * 13 + r2] = (short) pairs;
+                PAIR_INDEX[r2 * 13 + r1] = (short) pairs++;
+            }
+        }
+
+        int triples = 0;
+
+        for (int r1 = 0; r1 < 13; r1++) {
+            for (int r2 = r1; r2 < 13; r2++) {
+                for (int r3 = r2; r3 < 13; r3++) {
+
+                    int[][] orders = {{r1, r2, r3}, {r1, r3, r2}, {r2, r1, r3}, {r2, r3, r1}, {r3, r1, r2}, {r3, r2, r1}};
+
+                    for (int[] order : orders) {
+                        TRIPLE_INDEX[(order[0] * 13 + order[1]) * 13 + order[2]] = (short) triples;
+                    }
+                    triples++;
+                }
+            }
+        }
+    }
+}
@@ -1,15 +1,9 @@
 package analyzers;
 
 import enums.PokerHand;
-import models.Card;
 import models.Hand;
 import models.MatchData;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 /**
  * PokerHandAnalyzer consists of static methods that retrieves MatchData.
  */
@@ -42,7 +36,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Uses getDefaultMatchData that retrieves MatchData with list of all ranks in hand.
+     *  Uses getStraightMatchData that retrieves MatchData with list of all ranks in straight order.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -55,7 +49,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = getDefaultMatchData(hand);
+        MatchData md = getStraightMatchData(hand);
         md.setMatch(PokerHand.STRAIGHT_FLUSH);
 
         return md;
@@ -65,9 +59,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Gets rank count from Hand cards and then get rank where it occurred 4 times. Four of a kind rank
-     *  is added to the rankingList. If this rank is added to rankingList then adds others ranks
-     *  of cards to rankingList in descending order.
+     *  Uses getDefaultMatchData that lists four of a kind rank first and then the kicker.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -80,29 +72,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = new MatchData();
-
-        List<Integer> rankingList = new ArrayList<>();
-
-        Map<Integer, Long> countMap = hand.getCards().stream().collect(Collectors.groupingBy(
-                Card::getRankValue, Collectors.counting()));
-
-        Integer fourOfAKindRank =  countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 4)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
-
-        List<Integer> otherRanks = countMap.entrySet().stream()
-                .filter(e -> e.getValue() != 4)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        otherRanks.sort((r1, r2) -> r2 - r1);
-
-        rankingList.add(fourOfAKindRank);
-        rankingList.addAll(otherRanks);
-        md.setRankingList(rankingList);
+        MatchData md = getDefaultMatchData(hand);
         md.setMatch(PokerHand.FOUR_OF_A_KIND);
 
         return md;
@@ -112,8 +82,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Gets rank count of house's roof and house's body. First adds house's three of a kind to rankingList
-     *  and then adds a pair to rankingList.
+     *  Uses getDefaultMatchData that lists house's three of a kind rank first and then house's pair.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -126,27 +95,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = new MatchData();
-        List<Integer> rankingList = new ArrayList<>();
-
-        Map<Integer, Long> countMap = hand.getCards().stream().collect(Collectors.groupingBy(
-                Card::getRankValue, Collectors.counting()));
-
-        Integer threeOfAKindRank =  countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 3)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
-
-        Integer pairRank =  countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 2)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
-
-        rankingList.add(threeOfAKindRank);
-        rankingList.add(pairRank);
-        md.setRankingList(rankingList);
+        MatchData md = getDefaultMatchData(hand);
         md.setMatch(PokerHand.FULL_HOUSE);
 
         return md;
@@ -180,6 +129,8 @@ public class PokerHandAnalyzer {
      *  corresponding rankings.
      *
      *  Uses getDefaultMatchData that retrieves MatchData with list of all ranks in hand.
+     *  If straight is 5-4-3-2-A then ace is at the end of rankingList, because
+     *  ace is used as lowest card of that straight.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -201,8 +152,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Gets count of ranks occurring hand adds three of kind to rankingList. If three of a kind is
-     *  added to rankingList then other ranks are added to list in descending order.
+     *  Uses getDefaultMatchData that lists three of a kind rank first and then other ranks in descending order.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -215,28 +165,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = new MatchData();
-        List<Integer> rankingList = new ArrayList<>();
-
-        Map<Integer, Long> countMap = hand.getCards().stream().collect(Collectors.groupingBy(
-                Card::getRankValue, Collectors.counting()));
-
-        Integer threeOfAKindRank = countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 3)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
-
-        List<Integer> otherRanks = countMap.entrySet().stream()
-                .filter(e -> e.getValue() != 4)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        otherRanks.sort((r1, r2) -> r2 - r1);
-
-        rankingList.add(threeOfAKindRank);
-        rankingList.addAll(otherRanks);
-        md.setRankingList(rankingList);
+        MatchData md = getDefaultMatchData(hand);
         md.setMatch(PokerHand.THREE_OF_A_KIND);
 
         return md;
@@ -246,8 +175,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Gets count of ranks occurring in hand. Gets ranks that occur 2 times and adds them rankingList.
-     *  If ranks are added to rankingList, then adds remaining rank to rankingList.
+     *  Uses getDefaultMatchData that lists pair ranks in descending order and then the remaining rank.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -260,29 +188,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = new MatchData();
-        List<Integer> rankingList = new ArrayList<>();
-
-        Map<Integer, Long> countMap = hand.getCards().stream().collect(Collectors.groupingBy(
-                Card::getRankValue, Collectors.counting()));
-
-        List<Integer> pairRanks = countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 2)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        List<Integer> otherRanks = countMap.entrySet().stream()
-                .filter(e -> e.getValue() != 2)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        pairRanks.sort((r1, r2) -> r2 - r1);
-        otherRanks.sort((r1, r2) -> r2 - r1);
-
-        rankingList.addAll(pairRanks);
-        rankingList.addAll(otherRanks);
-
-        md.setRankingList(rankingList);
+        MatchData md = getDefaultMatchData(hand);
         md.setMatch(PokerHand.TWO_PAIRS);
 
         return md;
@@ -292,8 +198,7 @@ public class PokerHandAnalyzer {
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Gets count of ranks occurring in hand. Gets rank that occurs 1 time and adds it to rankingList.
-     *  If rank is added to rankingList, then adds remaining ranks to rankingList in descending order.
+     *  Uses getDefaultMatchData that lists pair rank first and then remaining ranks in descending order.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
@@ -306,29 +211,7 @@ public class PokerHandAnalyzer {
             return null;
         }
 
-        MatchData md = new MatchData();
-        List<Integer> rankingList = new ArrayList<>();
-
-        Map<Integer, Long> countMap = hand.getCards().stream().collect(Collectors.groupingBy(
-                Card::getRankValue, Collectors.counting()));
-
-        Integer pairRank = countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 2)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
-
-        List<Integer> otherRanks = countMap.entrySet().stream()
-                .filter(e -> e.getValue() == 1)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        otherRanks.sort((r1, r2) -> r2 - r1);
-
-        rankingList.add(pairRank);
-        rankingList.addAll(otherRanks);
-
-        md.setRankingList(rankingList);
+        MatchData md = getDefaultMatchData(hand);
         md.setMatch(PokerHand.ONE_PAIR);
 
         return md;
@@ -357,18 +240,46 @@ public class PokerHandAnalyzer {
         return md;
     }
 
+    /**
+     *  Returns a MatchData object that holds matched PokerHand with corresponding rankings.
+     *
+     *  Counts ranks and suits of cards once with RankHistogram and picks both PokerHand
+     *  and rankingList from these counts. Score of the hand is strength of the hand.
+     *
+     *  Returns null if hand does not exist or card count in hand is not 5
+     *
+     * @param hand hand that consists of 5 cards in a list
+     * @return matchData with matched PokerHand and its rankings
+     */
+    public static MatchData getMatchData(Hand hand) {
+
+        if (hand == null  || hand.getCards().size() != 5) {
+            return null;
+        }
+
+        RankHistogram histogram = new RankHistogram(hand.getCards());
+
+        MatchData md = new MatchData();
+        md.setRankingList(histogram.getRankingList());
+        md.setMatch(histogram.getPokerHand());
+        md.setScore(hand.getStrength());
+
+        return md;
+    }
+
     /**
      *  Default getter for matchData in PokerHandAnalzyer class
      *
      *  Returns a MatchData object that holds info of matched elements with their
      *  corresponding rankings.
      *
-     *  Adds all ranks to rankingList in descending order.
+     *  Counts ranks of cards with RankHistogram. Ranks that occur more times are added to
+     *  rankingList first and ranks with same count are added in descending order.
      *
      *  Returns null if hand does not exist or card count in hand is not 5
      *
      * @param hand hand that consists of 5 cards in a list
-     * @return matchData with all card rankings in descending order
+     * @return matchData with card rankings grouped by their count
      */
     private static  MatchData getDefaultMatchData(Hand hand) {
 
@@ -377,13 +288,7 @@ public class PokerHandAnalyzer {
         }
 
         MatchData md = new MatchData();
-
-        List<Integer> rankingList = hand.getCards().stream()
-                .map(Card::getRankValue)
-                .collect(Collectors.toList());
-
-        rankingList.sort((r1, r2) -> r2 - r1);
-        md.setRankingList(rankingList);
+        md.setRankingList(new RankHistogram(hand.getCards()).getRankingList());
 
         return md;
     }
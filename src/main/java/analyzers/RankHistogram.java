@@ -0,0 +1,149 @@
+package analyzers;
+
+import enums.PokerHand;
+import models.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RankHistogram counts ranks and suits of cards in a single pass over the cards.
+ * PokerHand category and ranking list of cards are both picked from these counts
+ * without rescanning the cards.
+ */
+public class RankHistogram {
+
+    private static final int WHEEL = 0x201E;
+    private static final int ROYAL = 0x3E00;
+
+    private final int[] counts = new int[14];
+    private int rankMask;
+    private int suitMask;
+    private int cardCount;
+
+    /**
+     * Initializes histogram by counting ranks and suits of given cards.
+     * @param cards list of cards
+     */
+    public RankHistogram(List<Card> cards) {
+
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            int rank = card.getRankValue();
+
+            counts[rank]++;
+            rankMask |= 1 << rank;
+            suitMask |= 1 << card.getSuit().ordinal();
+        }
+
+        cardCount = cards.size();
+    }
+
+    /**
+     * @param rank rank value from 1 to 13
+     * @return count of cards with given rank
+     */
+    public int getCount(int rank) {
+        return counts[rank];
+    }
+
+    /**
+     * @return count of cards in histogram
+     */
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    /**
+     * Picks PokerHand category of 5 cards from rank counts and suit mask.
+     *
+     * Returns null if card count is not 5
+     *
+     * @return PokerHand of counted cards
+     */
+    public PokerHand getPokerHand() {
+
+        if (cardCount != 5) {
+            return null;
+        }
+
+        int pairs = 0;
+        int maxCount = 0;
+
+        for (int rank = 1; rank < counts.length; rank++) {
+            if (counts[rank] == 2) {
+                pairs++;
+            }
+            if (counts[rank] > maxCount) {
+                maxCount = counts[rank];
+            }
+        }
+
+        boolean flush = Integer.bitCount(suitMask) == 1;
+        boolean straight = maxCount == 1 && isStraight();
+
+        if (straight && flush) {
+            return rankMask == ROYAL ? PokerHand.ROYAL_FLUSH : PokerHand.STRAIGHT_FLUSH;
+        }
+        if (maxCount == 4) {
+            return PokerHand.FOUR_OF_A_KIND;
+        }
+        if (maxCount == 3) {
+            return pairs == 1 ? PokerHand.FULL_HOUSE : PokerHand.THREE_OF_A_KIND;
+        }
+        if (flush) {
+            return PokerHand.FLUSH;
+        }
+        if (straight) {
+            return PokerHand.STRAIGHT;
+        }
+        if (pairs == 2) {
+            return PokerHand.TWO_PAIRS;
+        }
+        if (pairs == 1) {
+            return PokerHand.ONE_PAIR;
+        }
+        return PokerHand.HIGH_CARD;
+    }
+
+    /**
+     * Lists ranks grouped by their count. Ranks that occur more times come first and ranks with
+     * same count are in descending order. For example Full house of kings and threes gives [12, 2].
+     *
+     * If cards form 5-4-3-2-A straight then ace is moved to the end of the list, because
+     * ace is used as lowest card of that straight.
+     *
+     * @return list of ranks for comparing tied hands
+     */
+    public List<Integer> getRankingList() {
+
+        List<Integer> rankingList = new ArrayList<>(5);
+
+        for (int count = 4; count > 0; count--) {
+            for (int rank = counts.length - 1; rank > 0; rank--) {
+                if (counts[rank] == count) {
+                    rankingList.add(rank);
+                }
+            }
+        }
+
+        if (rankMask == WHEEL) {
+            rankingList.add(rankingList.remove(0));
+        }
+
+        return rankingList;
+    }
+
+    /**
+     * @return are the counted ranks sequential. 5-4-3-2-A is also sequential.
+     */
+    private boolean isStraight() {
+
+        if (rankMask == WHEEL) {
+            return true;
+        }
+
+        int lowest = Integer.numberOfTrailingZeros(rankMask);
+        return rankMask == (0x1F << lowest);
+    }
+}
@@ -0,0 +1,350 @@
+package analyzers;
+
+import models.Card;
+import models.CardSet;
+import models.Hand;
+
+import java.util.List;
+
+/**
+ * SevenCardEvaluator finds strength of best 5 card hand from 5 to 7 cards, for example from
+ * 2 hole cards and 5 board cards of Texas Hold'em. Strengths are same as strengths of HandEvaluator.
+ *
+ * Sub-hands are not evaluated one by one. Cards are taken as bits of CardSet, where every suit
+ * is 13 rank bits, so rank bits of every suit are read with one shift. If a suit has at least
+ * 5 cards then best hand is a straight flush or a flush, because with 7 cards there can not be
+ * a flush and a full house at same time. Otherwise ranks that occur at least 2, 3 and 4 times
+ * are found with and/or of suit bits, and best hand is picked from strongest category down
+ * with one table lookup.
+ * @see HandEvaluator
+ */
+public class SevenCardEvaluator {
+
+    private static final int RANK_MASK = 0x1FFF;
+    private static final int WHEEL = 0x100F;
+
+    private SevenCardEvaluator() {
+    }
+
+    /**
+     * Evaluates strength of best 5 card hand from cards in bits of a CardSet.
+     *
+     * Returns 0 if card count in bits is not 5, 6 or 7
+     *
+     * @param bits bits of 5 to 7 cards
+     * @return strength of best hand from 1 to 7462
+     */
+    public static int evaluate(long bits) {
+
+        int count = Long.bitCount(bits);
+
+        if (count < 5 || count > 7) {
+            return 0;
+        }
+
+        int s0 = suitRanks(bits, 0);
+        int s1 = suitRanks(bits, 1);
+        int s2 = suitRanks(bits, 2);
+        int s3 = suitRanks(bits, 3);
+
+        int ranks = s0 | s1 | s2 | s3;
+        int twos = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int threes = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int fours = s0 & s1 & s2 & s3;
+
+        return evaluate(flushRanks(s0, s1, s2, s3), ranks, twos, threes, fours);
+    }
+
+    /**
+     * Evaluates strength of best 5 card hand from rank masks of 5 to 7 cards.
+     * @param flush rank bits of suit that has at least 5 cards or 0 if there is no flush
+     * @param ranks rank bits of all cards
+     * @param twos rank bits of ranks that occur at least 2 times
+     * @param threes rank bits of ranks that occur at least 3 times
+     * @param fours rank bits of ranks that occur 4 times
+     * @return strength of best hand from 1 to 7462
+     */
+    static int evaluate(int flush, int ranks, int twos, int threes, int fours) {
+
+        if (flush != 0) {
+            int straight = highestStraight(flush);
+            return HandEvaluator.evaluateFlush(straight != 0 ? straight : highest(flush, 5));
+        }
+
+        if (fours != 0) {
+            int quads = Integer.highestOneBit(fours);
+            int quadPrime = prime(quads);
+            return HandEvaluator.lookupProduct(quadPrime * quadPrime * quadPrime * quadPrime
+                    * prime(Integer.highestOneBit(ranks & ~quads)));
+        }
+
+        if (threes != 0) {
+            int trips = Integer.highestOneBit(threes);
+            int tripsPrime = prime(trips);
+            int pairs = twos & ~trips;
+
+            if (pairs != 0) {
+                int pairPrime = prime(Integer.highestOneBit(pairs));
+                return HandEvaluator.lookupProduct(tripsPrime * tripsPrime * tripsPrime * pairPrime * pairPrime);
+            }
+        }
+
+        int straight = highestStraight(ranks);
+
+        if (straight != 0) {
+            return HandEvaluator.evaluateUnique(straight);
+        }
+
+        if (threes != 0) {
+            int trips = Integer.highestOneBit(threes);
+            int tripsPrime = prime(trips);
+            return HandEvaluator.lookupProduct(tripsPrime * tripsPrime * tripsPrime
+                    * productOf(highest(ranks & ~trips, 2)));
+        }
+
+        if (twos != 0) {
+            int high = Integer.highestOneBit(twos);
+            int low = Integer.highestOneBit(twos & ~high);
+            int highPrime = prime(high);
+
+            if (low != 0) {
+                int lowPrime = prime(low);
+                return HandEvaluator.lookupProduct(highPrime * highPrime * lowPrime * lowPrime
+                        * prime(Integer.highestOneBit(ranks & ~high & ~low)));
+            }
+
+            return HandEvaluator.lookupProduct(highPrime * highPrime * productOf(highest(ranks & ~high, 3)));
+        }
+
+        return HandEvaluator.evaluateUnique(highest(ranks, 5));
+    }
+
+    /**
+     * Evaluates strength of best 5 card hand from a CardSet.
+     *
+     * Returns 0 if card count in set is not 5, 6 or 7
+     *
+     * @param cardSet set of 5 to 7 cards
+     * @return strength of best hand from 1 to 7462
+     */
+    public static int evaluate(CardSet cardSet) {
+        return evaluate(cardSet.getBits());
+    }
+
+    /**
+     * Evaluates strength of best 5 card hand from hole cards and board cards.
+     *
+     * Returns 0 if there are not 5 to 7 different cards
+     *
+     * @param holeCards cards of player
+     * @param boardCards shared cards on board
+     * @return strength of best hand from 1 to 7462
+     */
+    public static int evaluate(List<Card> holeCards, List<Card> boardCards) {
+        return evaluate(CardSet.bitsOf(holeCards) | CardSet.bitsOf(boardCards));
+    }
+
+    /**
+     * Finds 5 cards that make best hand. If several choices make same strength then
+     * any of them is taken.
+     *
+     * Returns 0 if card count in bits is not 5, 6 or 7
+     *
+     * @param bits bits of 5 to 7 cards
+     * @return bits of 5 cards which strength is strength of bits
+     */
+    public static long bestFive(long bits) {
+
+        int count = Long.bitCount(bits);
+
+        if (count < 5 || count > 7) {
+            return 0L;
+        }
+
+        int s0 = suitRanks(bits, 0);
+        int s1 = suitRanks(bits, 1);
+        int s2 = suitRanks(bits, 2);
+        int s3 = suitRanks(bits, 3);
+
+        int flush = flushRanks(s0, s1, s2, s3);
+
+        if (flush != 0) {
+            int straight = highestStraight(flush);
+            return pick(bits & suitBits(flush, s0, s1, s2, s3), straight != 0 ? straight : highest(flush, 5), 1);
+        }
+
+        int ranks = s0 | s1 | s2 | s3;
+        int twos = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int threes = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int fours = s0 & s1 & s2 & s3;
+
+        if (fours != 0) {
+            int quads = Integer.highestOneBit(fours);
+            return pick(bits, quads, 4) | pick(bits, Integer.highestOneBit(ranks & ~quads), 1);
+        }
+
+        if (threes != 0) {
+            int trips = Integer.highestOneBit(threes);
+            int pairs = twos & ~trips;
+
+            if (pairs != 0) {
+                return pick(bits, trips, 3) | pick(bits, Integer.highestOneBit(pairs), 2);
+            }
+        }
+
+        int straight = highestStraight(ranks);
+
+        if (straight != 0) {
+            return pick(bits, straight, 1);
+        }
+
+        if (threes != 0) {
+            int trips = Integer.highestOneBit(threes);
+            return pick(bits, trips, 3) | pick(bits, highest(ranks & ~trips, 2), 1);
+        }
+
+        if (twos != 0) {
+            int high = Integer.highestOneBit(twos);
+            int low = Integer.highestOneBit(twos & ~high);
+
+            if (low != 0) {
+                return pick(bits, high | low, 2) | pick(bits, Integer.highestOneBit(ranks & ~high & ~low), 1);
+            }
+
+            return pick(bits, high, 2) | pick(bits, highest(ranks & ~high, 3), 1);
+        }
+
+        return pick(bits, highest(ranks, 5), 1);
+    }
+
+    /**
+     * Finds 5 cards that make best hand from a CardSet.
+     * @param cardSet set of 5 to 7 cards
+     * @return set of 5 cards of best hand, empty set if card count is not 5, 6 or 7
+     */
+    public static CardSet bestFive(CardSet cardSet) {
+        return new CardSet(bestFive(cardSet.getBits()));
+    }
+
+    /**
+     * Builds Hand of best 5 cards from hole cards and board cards.
+     * @param holeCards cards of player
+     * @param boardCards shared cards on board
+     * @return hand of best 5 cards
+     */
+    public static Hand bestHand(List<Card> holeCards, List<Card> boardCards) {
+        return new Hand(bestFive(new CardSet(CardSet.bitsOf(holeCards) | CardSet.bitsOf(boardCards))).toCards());
+    }
+
+    /**
+     * @return bits of all cards of suit which rank bits are given flush rank bits
+     */
+    private static long suitBits(int flush, int s0, int s1, int s2, int s3) {
+
+        int suit = flush == s0 ? 0 : flush == s1 ? 1 : flush == s2 ? 2 : 3;
+        return (long) RANK_MASK << (13 * suit);
+    }
+
+    /**
+     * Takes given count of cards of every rank in rank bits from bits of cards.
+     */
+    private static long pick(long bits, int rankBits, int perRank) {
+
+        long picked = 0L;
+
+        for (int rest = rankBits; rest != 0; rest &= rest - 1) {
+
+            int rank = Integer.numberOfTrailingZeros(rest);
+            int taken = 0;
+
+            for (int suit = 0; suit < 4 && taken < perRank; suit++) {
+                long bit = 1L << (13 * suit + rank);
+
+                if ((bits & bit) != 0) {
+                    picked |= bit;
+                    taken++;
+                }
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * @return rank bits of cards of given suit
+     */
+    private static int suitRanks(long bits, int suit) {
+        return (int) (bits >>> (13 * suit)) & RANK_MASK;
+    }
+
+    /**
+     * @return rank bits of suit that has at least 5 cards or 0 if there is no flush
+     */
+    private static int flushRanks(int s0, int s1, int s2, int s3) {
+
+        if (Integer.bitCount(s0) >= 5) {
+            return s0;
+        }
+        if (Integer.bitCount(s1) >= 5) {
+            return s1;
+        }
+        if (Integer.bitCount(s2) >= 5) {
+            return s2;
+        }
+        if (Integer.bitCount(s3) >= 5) {
+            return s3;
+        }
+        return 0;
+    }
+
+    /**
+     * Finds highest straight in rank bits. Ace is also used as lowest card of wheel.
+     * @return rank bits of highest straight or 0 if there is no straight
+     */
+    private static int highestStraight(int ranks) {
+
+        int extended = (ranks << 1) | ((ranks >>> 12) & 1);
+        int tops = extended & (extended >>> 1) & (extended >>> 2) & (extended >>> 3) & (extended >>> 4);
+
+        if (tops == 0) {
+            return 0;
+        }
+
+        int low = 31 - Integer.numberOfLeadingZeros(tops);
+        return low == 0 ? WHEEL : 0x1F << (low - 1);
+    }
+
+    /**
+     * @return rank bits of given count of highest ranks
+     */
+    private static int highest(int ranks, int count) {
+
+        int result = 0;
+
+        for (int i = 0; i < count; i++) {
+            int bit = Integer.highestOneBit(ranks);
+            result |= bit;
+            ranks &= ~bit;
+        }
+        return result;
+    }
+
+    /**
+     * @return prime of single rank bit
+     */
+    private static int prime(int rankBit) {
+        return HandEvaluator.PRIMES[Integer.numberOfTrailingZeros(rankBit)];
+    }
+
+    /**
+     * @return product of primes of rank bits
+     */
+    private static int productOf(int ranks) {
+
+        int product = 1;
+
+        for (int rest = ranks; rest != 0; rest &= rest - 1) {
+            product *= HandEvaluator.PRIMES[Integer.numberOfTrailingZeros(rest)];
+        }
+        return product;
+    }
+}
@@ -0,0 +1,23 @@
+package engine;
+
+import models.Card;
+import models.Player;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Strategy that never raises and keeps all of its cards.
+ */
+public class CallingStrategy implements PlayerStrategy {
+
+    @Override
+    public int raise(Player player, int maxBet) {
+        return 0;
+    }
+
+    @Override
+    public List<Card> discard(Player player) {
+        return Collections.emptyList();
+    }
+}
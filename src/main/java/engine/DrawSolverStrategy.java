@@ -0,0 +1,25 @@
+package engine;
+
+import analyzers.DrawSolver;
+import models.Card;
+import models.Player;
+
+import java.util.List;
+
+/**
+ * Strategy of computer player in console game. It never raises and discards cards
+ * that give strongest hand on average according to precomputed draw table.
+ * @see DrawSolver
+ */
+public class DrawSolverStrategy implements PlayerStrategy {
+
+    @Override
+    public int raise(Player player, int maxBet) {
+        return 0;
+    }
+
+    @Override
+    public List<Card> discard(Player player) {
+        return DrawSolver.bestDiscard(player.getHand());
+    }
+}
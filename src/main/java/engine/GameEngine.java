@@ -0,0 +1,163 @@
+package engine;
+
+import metrics.PokerMetrics;
+import models.Card;
+import models.Player;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GameEngine plays the game without console. It has same rules as console game, but
+ * decisions of players are made by strategies and events are sent to listener.
+ *
+ * On every round players bet 1 chip blind and get 5 cards. Then every player in turn
+ * can raise and all other players bet same amount of chips. After draw round hands are
+ * compared and winners collect chips pool. Player who runs out of chips leaves the table
+ * and game is over when only one player is left.
+ * @see Table
+ */
+public class GameEngine {
+
+    /**
+     * Count of rounds after which game is stopped without a winner
+     */
+    public static final int MAX_ROUNDS = 10_000;
+
+    private static final GameListener SILENT = new GameListener() {
+    };
+
+    private final List<PlayerStrategy> strategies;
+    private final CardDeck cd;
+    private GameListener listener = SILENT;
+    private Table table;
+    private int rounds;
+
+    /**
+     * Initializes engine for game of given strategies. Player ids are 1, 2, ... in
+     * order of strategies.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 strategies.
+     *
+     * @param strategies strategies of players
+     * @param random random that shuffles the deck
+     */
+    public GameEngine(List<PlayerStrategy> strategies, Random random) {
+
+        if (strategies.size() < Table.MIN_SEATS || strategies.size() > Table.MAX_SEATS) {
+            throw new IllegalArgumentException("Table has to have " + Table.MIN_SEATS + " to " + Table.MAX_SEATS + " players!");
+        }
+
+        this.strategies = strategies;
+        this.cd = new CardDeck(random);
+    }
+
+    /**
+     * @param listener listener of game events or null to play silently
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener == null ? SILENT : listener;
+    }
+
+    /**
+     * @return table of current game
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * @return count of rounds played in current game
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Initializes new players with 20 chips and plays rounds until game is over.
+     * @return player who won the game or null if game was stopped after MAX_ROUNDS
+     */
+    public Player play() {
+
+        List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < strategies.size(); i++) {
+            players.add(new Player(i + 1));
+        }
+
+        table = new Table(players, cd);
+        rounds = 0;
+
+        while (!table.isGameOver() && rounds < MAX_ROUNDS) {
+
+            playRound();
+            rounds++;
+
+            for (Player loser : table.checkChips()) {
+                listener.playerLeft(loser);
+            }
+        }
+
+        if (!table.isGameOver()) {
+            return null;
+        }
+
+        Player winner = table.getPlayers().get(0);
+        listener.gameEnded(winner);
+        return winner;
+    }
+
+    /**
+     * Plays one round of the game: blind bets, deal, raises, draw and showdown.
+     */
+    public void playRound() {
+
+        long start = PokerMetrics.startSample();
+
+        table.bet(1);
+        table.dealCards();
+        listener.roundStarted(table);
+
+        List<Player> players = table.getPlayers();
+
+        for (Player player : players) {
+
+            int maxBet = table.getMaxBet();
+
+            if (maxBet == 0) {
+                break;
+            }
+
+            int raise = strategyOf(player).raise(player, maxBet);
+
+            if (raise > 0) {
+                int betSize = Math.min(raise, maxBet);
+                table.bet(betSize);
+                listener.raised(player, betSize, table);
+            }
+        }
+
+        for (Player player : players) {
+
+            List<Card> discard = strategyOf(player).discard(player);
+
+            table.replaceCards(player, discard);
+            listener.drew(player, discard.size());
+        }
+
+        List<Player> winners = table.findWinners();
+        int chips = winners.size() == 1 ? table.collectBet(winners.get(0)) : table.splitBet(winners);
+
+        listener.roundEnded(winners, chips);
+        PokerMetrics.roundPlayed(start);
+    }
+
+    /**
+     * @return strategy of player by id of player
+     */
+    private PlayerStrategy strategyOf(Player player) {
+        return strategies.get(player.getId() - 1);
+    }
+}
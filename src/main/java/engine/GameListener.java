@@ -0,0 +1,58 @@
+package engine;
+
+import models.Player;
+
+import java.util.List;
+
+/**
+ * Listener of game events. GameEngine does not write anything itself, so listener
+ * can be used to print or record the game. All methods do nothing by default.
+ */
+public interface GameListener {
+
+    /**
+     * Round is started, blind bets are placed and cards are dealt.
+     * @param table table of the game
+     */
+    default void roundStarted(Table table) {
+    }
+
+    /**
+     * Player raised the bet and every player has bet same amount of chips.
+     * @param player player who raised
+     * @param betSize chip count of the bet
+     * @param table table of the game
+     */
+    default void raised(Player player, int betSize, Table table) {
+    }
+
+    /**
+     * Player has discarded cards and got new cards in their place.
+     * @param player player who drew cards
+     * @param count count of discarded cards
+     */
+    default void drew(Player player, int count) {
+    }
+
+    /**
+     * Hands are compared and chips pool is given to winners.
+     * @param winners players with strongest hand, more than one if hands are tied
+     * @param chips chip count that every winner received, without remaining chips of split pool
+     */
+    default void roundEnded(List<Player> winners, int chips) {
+    }
+
+    /**
+     * Player has run out of chips and left the table.
+     * @param loser player who has run out of chips
+     */
+    default void playerLeft(Player loser) {
+    }
+
+    /**
+     * Only one player is left and game is over.
+     * @param winner player who holds all the chips
+     */
+    default void gameEnded(Player winner) {
+    }
+}
@@ -0,0 +1,494 @@
+package engine;
+
+import metrics.PokerMetrics;
+import models.Card;
+import models.Player;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * GameSession is game flow of one human player against 1 to 9 computer players. Human
+ * player sits in first seat. Flow is a state
+ * machine: every call of step runs one GameState and moves to next state, so session
+ * can be stepped by a loop or by a scheduler and long sessions do not grow the call stack.
+ *
+ * When input has no line yet, step returns false and session stays in same state until
+ * next step. All messages are written to output and rules are applied by Table.
+ * Events of rounds are sent to listener same way as GameEngine sends them.
+ * @see GameState
+ * @see Table
+ */
+public class GameSession {
+
+    private static final GameListener SILENT = new GameListener() {
+    };
+
+    private final PlayerInput input;
+    private final Consumer<String> output;
+    private final PlayerStrategy computer;
+    private final CardDeck cd;
+    private final int seats;
+
+    private GameListener listener = SILENT;
+    private GameState state = GameState.START;
+    private Table table;
+    private Player player1;
+    private long roundStart;
+
+    /**
+     * Initializes session where computer player discards with DrawSolver.
+     * @param input lines of human player
+     * @param output receiver of game messages
+     */
+    public GameSession(PlayerInput input, Consumer<String> output) {
+        this(input, output, new DrawSolverStrategy(), new CardDeck());
+    }
+
+    /**
+     * Initializes session of 2 players with given computer strategy and deck.
+     * @param input lines of human player
+     * @param output receiver of game messages
+     * @param computer strategy of computer player, only its discards are used
+     * @param cd deck that cards are dealt from
+     */
+    public GameSession(PlayerInput input, Consumer<String> output, PlayerStrategy computer, CardDeck cd) {
+        this(input, output, computer, cd, Table.MIN_SEATS);
+    }
+
+    /**
+     * Initializes session with given count of seats.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 seats.
+     *
+     * @param input lines of human player
+     * @param output receiver of game messages
+     * @param computer strategy of computer players, only its discards are used
+     * @param cd deck that cards are dealt from
+     * @param seats count of players with human player
+     */
+    public GameSession(PlayerInput input, Consumer<String> output, PlayerStrategy computer, CardDeck cd, int seats) {
+
+        if (seats < Table.MIN_SEATS || seats > Table.MAX_SEATS) {
+            throw new IllegalArgumentException("Table has to have " + Table.MIN_SEATS + " to " + Table.MAX_SEATS + " players!");
+        }
+
+        this.input = input;
+        this.output = output;
+        this.computer = computer;
+        this.cd = cd;
+        this.seats = seats;
+    }
+
+    /**
+     * @param listener listener of game events or null to play without listener
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener == null ? SILENT : listener;
+    }
+
+    /**
+     * @return current state of session
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * @return table of current game or null if game has not started
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Steps session until it waits for input or is over.
+     * @return true if session is over
+     */
+    public boolean run() {
+
+        while (step()) {
+            // every step runs one state
+        }
+        return state == GameState.OVER;
+    }
+
+    /**
+     * Runs current state and moves to next state.
+     * @return true if state was run, false if session waits for input or is over
+     */
+    public boolean step() {
+
+        switch (state) {
+            case START:
+                start();
+                return true;
+            case DEAL:
+                dealCards();
+                return true;
+            case BET:
+                return askForBet();
+            case DRAW:
+                return askForDiscard();
+            case SHOWDOWN:
+                compareCards();
+                return true;
+            case CHECK_CHIPS:
+                checkChips();
+                return true;
+            case PLAY_AGAIN:
+                return askForPlayingAgain();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Initializes players and starts game.
+     */
+    private void start() {
+
+        List<Player> players = new ArrayList<>();
+
+        for (int id = 1; id <= seats; id++) {
+            players.add(new Player(id));
+        }
+
+        player1 = players.get(0);
+        table = new Table(players, cd);
+
+        print("-------- Game started ---------");
+        state = GameState.DEAL;
+    }
+
+    /**
+     * Reads next line of human player. If player has left then session is over.
+     * @return line or null if there is no line
+     */
+    private String readInput() {
+
+        String line = input.readLine();
+
+        if (line == null && input.isClosed()) {
+            state = GameState.OVER;
+        }
+        return line;
+    }
+
+    /**
+     * Asks player to play again. User has to enter y or n to continue.
+     * On pressing y game starts again and on pressing n session is over.
+     * @return false if there was no input
+     */
+    private boolean askForPlayingAgain() {
+
+        String line = readInput();
+
+        if (line == null) {
+            return state == GameState.OVER;
+        }
+
+        if (line.equals("y")) {
+            state = GameState.START;
+        }
+        else if (line.equals("n")) {
+            print("Hope to see you again.");
+            state = GameState.OVER;
+        }
+        else {
+            print("Please enter valid input!");
+        }
+        return true;
+    }
+
+    /**
+     * Starts new round. Takes "blind" bets from players, adds 5 cards to each player
+     * hand and shows cards. If both players have chips left then asks for additional
+     * bets, otherwise goes to draw round.
+     */
+    private void dealCards() {
+
+        roundStart = PokerMetrics.startSample();
+        print("-------- Round started ---------");
+        print("Blind bets are added!");
+        bet(1);
+
+        table.dealCards();
+        listener.roundStarted(table);
+        openCards(false);
+
+        if (table.getMaxBet() != 0) {
+            print("Would you like to raise bet? Enter an integer number for raising bet or enter letter \"n\"");
+            state = GameState.BET;
+        }
+        else {
+            if (player1.getChips() == 0) {
+                print("You went All In with blind bet.");
+            }
+            else {
+                for (Player opponent : getOpponents()) {
+                    if (opponent.getChips() == 0) {
+                        print(nameOf(opponent) + " went All In with blind bet.");
+                    }
+                }
+            }
+            startDraw();
+        }
+    }
+
+    /**
+     * Reads user input and if input is "n" then goes to draw round. If input is an integer
+     * then bets chips by integer size and goes to draw round.
+     * If input is not "n" or an integer then asks for input again.
+     * @return false if there was no input
+     */
+    private boolean askForBet() {
+
+        String line = readInput();
+
+        if (line == null) {
+            return state == GameState.OVER;
+        }
+
+        if (line.equals("n")) {
+            startDraw();
+        }
+        else if (line.matches("[0-9]+")) {
+
+            // Nobody has more chips than fit into 9 digits, longer numbers are not parsed
+            int inputI = line.length() > 9 ? Integer.MAX_VALUE : Integer.parseInt(line);
+
+            if (player1.getChips() < inputI) {
+                print("You only have " + player1.getChips() + " chips. Please try again!");
+            }
+            else if (table.getMaxBet() < inputI) {
+                for (Player opponent : getOpponents()) {
+                    if (opponent.getChips() < inputI) {
+                        print(nameOf(opponent) + " only has " + opponent.getChips() + " chips. Please try again!");
+                        break;
+                    }
+                }
+            }
+            else {
+                bet(inputI);
+                listener.raised(player1, inputI, table);
+                startDraw();
+            }
+        }
+        else {
+            print("Please enter an integer number or letter \"n\"!");
+        }
+        return true;
+    }
+
+    /**
+     * Asks human player to discard cards.
+     */
+    private void startDraw() {
+        print("Enter positions of cards (1-5) you would like to discard separated by spaces or enter letter \"n\"");
+        state = GameState.DRAW;
+    }
+
+    /**
+     * Reads user input and if input is "n" then keeps all cards. If input is list of card
+     * positions then discards cards at these positions and gets new cards from deck.
+     * If input is not valid then asks for input again. After human player computer players
+     * discard and cards are opened.
+     * @return false if there was no input
+     */
+    private boolean askForDiscard() {
+
+        String line = readInput();
+
+        if (line == null) {
+            return state == GameState.OVER;
+        }
+
+        line = line.trim();
+        int discarded = 0;
+
+        if (line.matches("[1-5]( +[1-5]){0,4}")) {
+
+            List<Card> cards = player1.getHand().getCards();
+            Set<Card> discard = new LinkedHashSet<>();
+
+            for (String position : line.split(" +")) {
+                discard.add(cards.get(Integer.parseInt(position) - 1));
+            }
+
+            table.replaceCards(player1, new ArrayList<>(discard));
+            discarded = discard.size();
+            print("You discarded " + discarded + " cards.");
+        }
+        else if (!line.equals("n")) {
+            print("Please enter positions of cards from 1 to 5 or letter \"n\"!");
+            return true;
+        }
+
+        listener.drew(player1, discarded);
+
+        for (Player opponent : getOpponents()) {
+            List<Card> discard = computer.discard(opponent);
+            table.replaceCards(opponent, discard);
+            listener.drew(opponent, discard.size());
+            print(nameOf(opponent) + " discarded " + discard.size() + " cards.");
+        }
+
+        openCards(true);
+        state = GameState.SHOWDOWN;
+        return true;
+    }
+
+    /**
+     *  Places bet with given input size to the chip pool in game and prints new chip counts.
+     * @param betSize chip count for betting.
+     */
+    private void bet(int betSize) {
+
+        table.bet(betSize);
+
+        print((seats == 2 ? "Both" : "All") + " of you bet " + betSize + " chips");
+        print("New pool size: " + table.getChipsInPlay());
+
+        print("You now have: " + player1.getChips());
+
+        for (Player opponent : getOpponents()) {
+            print(nameOf(opponent) + " now has: " + opponent.getChips());
+        }
+    }
+
+    /**
+     * Shows cards. If round is not over then opponents cards are shown as asterixes.
+     * Your cards are always shown with corresponding ranks and suits.
+     * @param roundOver true if opponent cards are shown
+     */
+    private void openCards(boolean roundOver) {
+
+        for (Player opponent : getOpponents()) {
+
+            String name = seats == 2 ? "Opponent" : nameOf(opponent);
+
+            if (!roundOver) {
+                print(name + "'s cards: * * * * *");
+            }
+            else {
+                print(name + "'s cards: " + opponent.getHand().toString());
+            }
+        }
+
+        print("Your cards: " + player1.getHand().toString());
+    }
+
+    /**
+     * Ranks hands of all players and checks who won this round. Prompts message afterwards.
+     * Bets are either collected by the winner or splitted by tied players.
+     */
+    private void compareCards() {
+
+        List<Player> winners = table.findWinners();
+
+        if (winners.size() == 1) {
+
+            Player winner = winners.get(0);
+            print("Winning hand: " + winner.getHand().getPokerHand().getValue());
+
+            if (winner == player1) {
+                print("You won this hand! Hooraay!!");
+            }
+            else {
+                print((seats == 2 ? "Opponent" : nameOf(winner)) + " won this hand! Better luck next time.");
+            }
+
+            int chips = table.collectBet(winner);
+            listener.roundEnded(winners, chips);
+            print("Player " + winner.getId() + " received " + chips + " chips.");
+        }
+        else if (winners.size() == 2 && seats == 2) {
+            int chips = table.splitBet(winners);
+            listener.roundEnded(winners, chips);
+            print("Hands are tied!");
+            print("Both players have received " + chips + " chips.");
+        }
+        else {
+            print("Hands are tied!");
+
+            int[] chips = new int[winners.size()];
+
+            for (int i = 0; i < chips.length; i++) {
+                chips[i] = winners.get(i).getChips();
+            }
+
+            listener.roundEnded(winners, table.splitBet(winners));
+
+            for (int i = 0; i < chips.length; i++) {
+                Player winner = winners.get(i);
+                print("Player " + winner.getId() + " received " + (winner.getChips() - chips[i]) + " chips.");
+            }
+        }
+
+        PokerMetrics.sessionRoundPlayed(roundStart);
+        state = GameState.CHECK_CHIPS;
+    }
+
+    /**
+     * Checks chip counts of players. Computer players with 0 chips leave the table.
+     * If human player has 0 chips or all computer players have left then game ends
+     * and player is asked to play again. Otherwise new round begins.
+     */
+    private void checkChips() {
+
+        List<Player> losers = table.checkChips();
+
+        for (Player loser : losers) {
+            listener.playerLeft(loser);
+        }
+
+        if (table.isGameOver()) {
+            listener.gameEnded(table.getPlayers().get(0));
+        }
+
+        if (losers.contains(player1)) {
+            print("You have run out of chips!" + (seats == 2 ? " Your opponent has won!" : ""));
+        }
+        else {
+            for (Player loser : losers) {
+                print(nameOf(loser) + " has run out of chips!" + (seats == 2 ? " You won! Congratulations!" : ""));
+            }
+
+            if (!table.isGameOver()) {
+                state = GameState.DEAL;
+                return;
+            }
+
+            if (seats > 2) {
+                print("You won! Congratulations!");
+            }
+        }
+
+        print("-------- Game ended ---------");
+        print("Would you like to play again? Press \"y\" for yes and \"n\" for no.");
+        state = GameState.PLAY_AGAIN;
+    }
+
+    /**
+     * @return computer players that are still in game
+     */
+    private List<Player> getOpponents() {
+        return table.getPlayers().subList(1, table.getPlayers().size());
+    }
+
+    /**
+     * @return name of computer player in messages
+     */
+    private String nameOf(Player opponent) {
+        return seats == 2 ? "Your opponent" : "Player " + opponent.getId();
+    }
+
+    private void print(String message) {
+        output.accept(message);
+    }
+}
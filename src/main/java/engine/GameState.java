@@ -0,0 +1,42 @@
+package engine;
+
+/**
+ * States of game flow. Every state is one step of the game and GameSession moves
+ * from state to state in a loop, so game does not grow the call stack.
+ * @see GameSession
+ */
+public enum GameState {
+
+    /**
+     * Players get 20 chips and game starts
+     */
+    START,
+    /**
+     * Blind bets are placed and cards are dealt
+     */
+    DEAL,
+    /**
+     * Human player is asked to raise the bet
+     */
+    BET,
+    /**
+     * Human player is asked to discard cards and then computer player draws
+     */
+    DRAW,
+    /**
+     * Hands are compared and chips pool is given to winners
+     */
+    SHOWDOWN,
+    /**
+     * Chip counts are checked and next round or end of game follows
+     */
+    CHECK_CHIPS,
+    /**
+     * Human player is asked to play again
+     */
+    PLAY_AGAIN,
+    /**
+     * Session is over
+     */
+    OVER
+}
@@ -0,0 +1,19 @@
+package engine;
+
+/**
+ * Source of lines that human player enters.
+ */
+public interface PlayerInput {
+
+    /**
+     * Reads next line of player. Input that waits for player can return null, then
+     * game pauses and reads the line again on next step.
+     * @return next line or null if there is no line yet
+     */
+    String readLine();
+
+    /**
+     * @return true if player has left and no more lines will come
+     */
+    boolean isClosed();
+}
@@ -0,0 +1,29 @@
+package engine;
+
+import models.Card;
+import models.Player;
+
+import java.util.List;
+
+/**
+ * Strategy makes decisions of one player in the game. Console game asks decisions
+ * from human player, simulations use strategies instead.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Decides how many chips player raises after cards are dealt. Every other player
+     * has to bet same amount of chips.
+     * @param player player who decides
+     * @param maxBet biggest bet that every player can make
+     * @return chip count to raise between 0 and maxBet, 0 if player does not raise
+     */
+    int raise(Player player, int maxBet);
+
+    /**
+     * Decides which cards player discards in draw round.
+     * @param player player who decides
+     * @return cards of players hand to discard, empty list if all cards are kept
+     */
+    List<Card> discard(Player player);
+}
@@ -0,0 +1,58 @@
+package engine;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Player input backed by in-memory queue. Any thread can offer lines and reading never
+ * blocks, so session that reads from queue pauses until next line is offered.
+ */
+public class QueueInput implements PlayerInput {
+
+    private static final Runnable NONE = () -> { };
+
+    private final Queue<String> lines = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+    private volatile Runnable listener = NONE;
+
+    /**
+     * Adds line of player to the end of queue.
+     * @param line line that player entered
+     */
+    public void offer(String line) {
+        lines.add(line);
+        listener.run();
+    }
+
+    /**
+     * Marks that player has left. Lines that are already in queue are still read.
+     */
+    public void close() {
+        closed = true;
+        listener.run();
+    }
+
+    /**
+     * @param listener called after line is offered or input is closed, null for none
+     */
+    void setListener(Runnable listener) {
+        this.listener = listener == null ? NONE : listener;
+    }
+
+    /**
+     * @return true if there is a line to read or input is closed
+     */
+    boolean isReady() {
+        return closed || !lines.isEmpty();
+    }
+
+    @Override
+    public String readLine() {
+        return lines.poll();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed && lines.isEmpty();
+    }
+}
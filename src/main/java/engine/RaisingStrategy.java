@@ -0,0 +1,66 @@
+package engine;
+
+import enums.PokerHand;
+import models.Card;
+import models.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strategy that raises when its hand is at least given PokerHand and keeps cards
+ * that make up its pairs, trips and quads. Strategy does not solve draws, so it is
+ * cheap enough for long simulations.
+ */
+public class RaisingStrategy implements PlayerStrategy {
+
+    private final PokerHand minimum;
+    private final int raise;
+
+    /**
+     * @param minimum weakest PokerHand that is raised
+     * @param raise chip count to raise
+     */
+    public RaisingStrategy(PokerHand minimum, int raise) {
+        this.minimum = minimum;
+        this.raise = raise;
+    }
+
+    @Override
+    public int raise(Player player, int maxBet) {
+
+        if (player.getHand().getPokerHand().getRank() >= minimum.getRank()) {
+            return Math.min(raise, maxBet);
+        }
+        return 0;
+    }
+
+    /**
+     * Keeps all cards of made hands that use all 5 cards. Otherwise discards cards
+     * which rank occurs only once in hand.
+     */
+    @Override
+    public List<Card> discard(Player player) {
+
+        List<Card> discard = new ArrayList<>();
+        PokerHand pokerHand = player.getHand().getPokerHand();
+
+        if (pokerHand.getRank() >= PokerHand.STRAIGHT.getRank() && pokerHand != PokerHand.FOUR_OF_A_KIND) {
+            return discard;
+        }
+
+        int[] counts = new int[14];
+        List<Card> cards = player.getHand().getCards();
+
+        for (Card card : cards) {
+            counts[card.getRankValue()]++;
+        }
+
+        for (Card card : cards) {
+            if (counts[card.getRankValue()] == 1) {
+                discard.add(card);
+            }
+        }
+        return discard;
+    }
+}
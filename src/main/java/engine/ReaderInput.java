@@ -0,0 +1,48 @@
+package engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Player input that reads lines from a reader, for example from console. Reading
+ * blocks until player enters a line.
+ */
+public class ReaderInput implements PlayerInput {
+
+    private final BufferedReader reader;
+    private boolean closed;
+
+    /**
+     * @param reader reader of player lines
+     */
+    public ReaderInput(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Throws UncheckedIOException if reader fails.
+     *
+     * @return next line or null if reader has ended
+     */
+    @Override
+    public String readLine() {
+
+        try {
+            String line = reader.readLine();
+
+            if (line == null) {
+                closed = true;
+            }
+            return line;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+}
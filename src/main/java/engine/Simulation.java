@@ -0,0 +1,137 @@
+package engine;
+
+import models.SimulationResult;
+
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Simulation plays many games with GameEngine and counts which players win.
+ *
+ * Games are split between one worker per core. Every worker has its own engine, deck,
+ * random stream and strategies, so workers share nothing while playing. Results of
+ * workers are merged at the end. Every worker can also have its own listener, for example
+ * to record hand history.
+ */
+public class Simulation {
+
+    private Simulation() {
+    }
+
+    /**
+     * Plays given count of games with common ForkJoinPool.
+     * @param games count of games to play
+     * @param strategies creates strategies of players for every worker
+     * @return wins of every player with played rounds and elapsed time
+     */
+    public static SimulationResult run(long games, Supplier<List<PlayerStrategy>> strategies) {
+        return run(games, strategies, new SplittableRandom());
+    }
+
+    /**
+     * Plays given count of games with common ForkJoinPool. Workers get their random streams
+     * from given random, so simulation with same seed, worker count and strategies plays
+     * same games.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 players.
+     *
+     * @param games count of games to play
+     * @param strategies creates strategies of players for every worker
+     * @param random source of seeds for random streams of workers
+     * @return wins of every player with played rounds and elapsed time
+     */
+    public static SimulationResult run(long games, Supplier<List<PlayerStrategy>> strategies, SplittableRandom random) {
+        return run(games, strategies, random, () -> null);
+    }
+
+    /**
+     * Plays given count of games with common ForkJoinPool. Every worker gets its own listener
+     * from given supplier. Listener that is AutoCloseable is closed when its worker has played
+     * all its games.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 players.
+     *
+     * @param games count of games to play
+     * @param strategies creates strategies of players for every worker
+     * @param random source of seeds for random streams of workers
+     * @param listeners creates listener of game events for every worker, may create null
+     * @return wins of every player with played rounds and elapsed time
+     */
+    public static SimulationResult run(long games, Supplier<List<PlayerStrategy>> strategies, SplittableRandom random,
+                                       Supplier<? extends GameListener> listeners) {
+
+        long start = System.nanoTime();
+
+        int seats = strategies.get().size();
+
+        if (seats < Table.MIN_SEATS || seats > Table.MAX_SEATS) {
+            throw new IllegalArgumentException("Table has to have " + Table.MIN_SEATS + " to " + Table.MAX_SEATS + " players!");
+        }
+
+        int workers = ForkJoinPool.getCommonPoolParallelism();
+        long[] seeds = new long[workers];
+
+        for (int i = 0; i < workers; i++) {
+            seeds[i] = random.split().nextLong();
+        }
+
+        SimulationResult result = IntStream.range(0, workers)
+                .parallel()
+                .mapToObj(worker -> {
+                    long count = games / workers + (worker < games % workers ? 1 : 0);
+                    return play(count, strategies.get(), new Random(seeds[worker]), seats, listeners.get());
+                })
+                .reduce(new SimulationResult(seats), (a, b) -> {
+                    SimulationResult merged = new SimulationResult(seats);
+                    merged.add(a);
+                    merged.add(b);
+                    return merged;
+                });
+
+        result.setElapsedNanos(System.nanoTime() - start);
+
+        return result;
+    }
+
+    /**
+     * Plays games in calling thread with one engine.
+     */
+    private static SimulationResult play(long games, List<PlayerStrategy> strategies, Random random, int seats,
+                                         GameListener listener) {
+
+        GameEngine engine = new GameEngine(strategies, random);
+        engine.setListener(listener);
+        SimulationResult result = new SimulationResult(seats);
+
+        try {
+            for (long i = 0; i < games; i++) {
+                result.addGame(engine.play(), engine.getRounds());
+            }
+        }
+        finally {
+            close(listener);
+        }
+        return result;
+    }
+
+    private static void close(GameListener listener) {
+
+        if (!(listener instanceof AutoCloseable)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) listener).close();
+        }
+        catch (RuntimeException ex) {
+            throw ex;
+        }
+        catch (Exception ex) {
+            throw new IllegalStateException("Listener could not be closed", ex);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SocketTableServer accepts players from local sockets and opens a table of TableServer
+ * for every connection. Lines that player sends are offered to QueueInput of the table
+ * and game messages are sent back as lines.
+ *
+ * All sockets are served by one selector thread without blocking, so a connection that
+ * waits for its player takes no thread. Connection is closed when game session is over.
+ *
+ * Memory of every connection is bounded: connection is closed if player sends a line longer
+ * than MAX_LINE_LENGTH or if player does not read and more than MAX_QUEUED_BYTES of messages
+ * wait to be sent.
+ * @see TableServer
+ */
+public class SocketTableServer implements AutoCloseable {
+
+    /**
+     * Longest line in bytes that player can send
+     */
+    public static final int MAX_LINE_LENGTH = 1024;
+
+    /**
+     * Count of bytes that can wait to be sent to player
+     */
+    public static final int MAX_QUEUED_BYTES = 256 * 1024;
+
+    private final TableServer server;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Queue<Connection> pending = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(4096);
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Binds server to given port of loopback address. Connections are accepted after start.
+     * @param server server that hosts tables
+     * @param port port to bind, 0 for any free port
+     * @throws IOException if port can not be bound
+     */
+    public SocketTableServer(TableServer server, int port) throws IOException {
+
+        this.server = server;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.thread = new Thread(this::select, "table-sockets");
+    }
+
+    /**
+     * @return port that server is bound to
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Starts accepting connections in selector thread.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops selector thread and closes server socket. Open connections are closed too.
+     */
+    @Override
+    public void close() throws IOException {
+
+        closed = true;
+        selector.wakeup();
+
+        try {
+            thread.join(1000);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    /**
+     * Loop of selector thread.
+     */
+    private void select() {
+
+        try {
+            while (!closed) {
+
+                selector.select();
+
+                for (Connection connection; (connection = pending.poll()) != null; ) {
+                    connection.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                while (keys.hasNext()) {
+
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        accept();
+                    }
+                    else {
+                        Connection connection = (Connection) key.attachment();
+
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException ex) {
+            closed = true;
+        }
+    }
+
+    /**
+     * Accepts waiting connection and opens table for it.
+     */
+    private void accept() throws IOException {
+
+        SocketChannel channel = serverChannel.accept();
+
+        if (channel == null) {
+            return;
+        }
+
+        channel.configureBlocking(false);
+
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+
+        server.openTable(connection.input, connection::send, connection::finish);
+    }
+
+    /**
+     * Socket of one player. Only selector thread reads and writes the socket, other
+     * threads add messages to queue and wake selector up.
+     */
+    private class Connection {
+
+        private final SocketChannel channel;
+        private final QueueInput input = new QueueInput();
+        private final Queue<ByteBuffer> writes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queuedBytes = new AtomicInteger();
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private volatile boolean finished;
+        private volatile boolean overflowed;
+        private SelectionKey key;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Sends game message as a line. If too many bytes wait already, message is dropped
+         * and connection is closed.
+         */
+        void send(String message) {
+
+            byte[] bytes = (message + "\n").getBytes(StandardCharsets.UTF_8);
+
+            if (queuedBytes.addAndGet(bytes.length) > MAX_QUEUED_BYTES) {
+                overflowed = true;
+            }
+            else {
+                writes.add(ByteBuffer.wrap(bytes));
+            }
+            wakeUp();
+        }
+
+        /**
+         * Closes connection after all messages are sent.
+         */
+        void finish() {
+            finished = true;
+            wakeUp();
+        }
+
+        private void wakeUp() {
+            pending.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Reads bytes from socket and offers every complete line to input. Connection is
+         * closed if line gets longer than MAX_LINE_LENGTH.
+         */
+        void read() {
+
+            readBuffer.clear();
+            int count;
+
+            try {
+                count = channel.read(readBuffer);
+            }
+            catch (IOException ex) {
+                count = -1;
+            }
+
+            if (count < 0) {
+                disconnect();
+                return;
+            }
+
+            for (int i = 0; i < count; i++) {
+
+                byte b = readBuffer.get(i);
+
+                if (b == '\n') {
+                    input.offer(new String(line.toByteArray(), StandardCharsets.UTF_8).replace("\r", ""));
+                    line.reset();
+                }
+                else if (line.size() < MAX_LINE_LENGTH) {
+                    line.write(b);
+                }
+                else {
+                    disconnect();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Writes queued messages until socket does not take more bytes. If bytes are left,
+         * selector writes them when socket is writable again.
+         */
+        void flush() {
+
+            if (!channel.isOpen()) {
+                writes.clear();
+                return;
+            }
+
+            if (overflowed) {
+                disconnect();
+                writes.clear();
+                return;
+            }
+
+            try {
+                for (ByteBuffer buffer; (buffer = writes.peek()) != null; writes.poll()) {
+
+                    channel.write(buffer);
+
+                    if (buffer.hasRemaining()) {
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                    queuedBytes.addAndGet(-buffer.capacity());
+                }
+            }
+            catch (IOException ex) {
+                disconnect();
+                return;
+            }
+
+            if (finished) {
+                disconnect();
+            }
+            else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Closes socket and input, so session of table ends.
+         */
+        private void disconnect() {
+
+            key.cancel();
+            input.close();
+
+            try {
+                channel.close();
+            }
+            catch (IOException ex) {
+                // socket is closed anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package engine;
+
+import metrics.PokerMetrics;
+import models.Card;
+import models.CardSet;
+import models.Hand;
+import models.Player;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Table holds players, card deck and chips pool of one game and applies rules of the game
+ * to them. Table does not read or write anything, so same rules are used by console game
+ * and by headless simulations.
+ *
+ * Table has 2 to 10 seats. Player who runs out of chips leaves the table and game is over
+ * when only one player is left. If deck runs out of cards in draw round then cards that
+ * were discarded in this round are returned to deck.
+ */
+public class Table {
+
+    /**
+     * Smallest count of players at table
+     */
+    public static final int MIN_SEATS = 2;
+
+    /**
+     * Biggest count of players at table
+     */
+    public static final int MAX_SEATS = 10;
+
+    private final List<Player> players;
+    private final CardDeck cd;
+    private long muck = 0L;
+    private int chipsInPlay = 0;
+
+    /**
+     * Initializes table with given players and deck.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 players.
+     *
+     * @param players players of the game in seat order
+     * @param cd deck that cards are dealt from
+     */
+    public Table(List<Player> players, CardDeck cd) {
+
+        if (players.size() < MIN_SEATS || players.size() > MAX_SEATS) {
+            throw new IllegalArgumentException("Table has to have " + MIN_SEATS + " to " + MAX_SEATS + " players!");
+        }
+
+        this.players = new ArrayList<>(players);
+        this.cd = cd;
+    }
+
+    /**
+     * @return players that are still in game in seat order
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * @return deck that cards are dealt from
+     */
+    public CardDeck getCardDeck() {
+        return cd;
+    }
+
+    /**
+     * @return chips count in game's chip pool
+     */
+    public int getChipsInPlay() {
+        return chipsInPlay;
+    }
+
+    /**
+     * @return true if only one player is left
+     */
+    public boolean isGameOver() {
+        return players.size() < MIN_SEATS;
+    }
+
+    /**
+     * Resets deck and gives every player 5 new cards.
+     */
+    public void dealCards() {
+
+        cd.resetDeck();
+        muck = 0L;
+
+        for (Player player : players) {
+            player.setHand(new Hand(cd.getRandomCards(5)));
+        }
+    }
+
+    /**
+     * @return smallest chip count of players, that is biggest bet every player can make
+     */
+    public int getMaxBet() {
+
+        int maxBet = Integer.MAX_VALUE;
+
+        for (Player player : players) {
+            maxBet = Math.min(maxBet, player.getChips());
+        }
+        return maxBet;
+    }
+
+    /**
+     *  Places bet with given input size to the chip pool in game. Removes amount of
+     *  chips from each player.
+     * @param betSize chip count for betting.
+     */
+    public void bet(int betSize) {
+
+        for (Player player : players) {
+            player.setChips(player.getChips() - betSize);
+        }
+
+        chipsInPlay += betSize * players.size();
+    }
+
+    /**
+     * Removes discarded cards from players hand and adds same count of new cards from deck.
+     * If there are not enough cards left in deck then remaining cards are dealt and cards
+     * that were discarded in this round are returned to deck for the rest. If even these
+     * are not enough then players own discarded cards are returned too.
+     * @param player player who draws cards
+     * @param discard cards to discard from players hand
+     */
+    public void replaceCards(Player player, List<Card> discard) {
+
+        if (discard.isEmpty()) {
+            return;
+        }
+
+        List<Card> cards = new ArrayList<>(player.getHand().getCards());
+        cards.removeAll(discard);
+
+        long discardBits = CardSet.bitsOf(discard);
+        int fromDeck = Math.min(discard.size(), cd.getRemainingCount());
+        int fromMuck = discard.size() - fromDeck;
+
+        cards.addAll(cd.getRandomCards(fromDeck));
+
+        if (fromMuck > 0) {
+
+            if (Long.bitCount(muck) < fromMuck) {
+                muck |= discardBits;
+                discardBits = 0L;
+            }
+
+            cd.returnCards(new CardSet(muck));
+            muck = 0L;
+            cards.addAll(cd.getRandomCards(fromMuck));
+        }
+
+        muck |= discardBits;
+        player.setHand(new Hand(cards));
+    }
+
+    /**
+     * Ranks hands of players with one sort by strength.
+     * @return players from strongest hand to weakest, tied players in seat order
+     */
+    public List<Player> rankPlayers() {
+
+        int n = players.size();
+        long[] keys = new long[n];
+
+        for (int seat = 0; seat < n; seat++) {
+            keys[seat] = ((long) players.get(seat).getHand().getStrength() << 8) | (0xFF - seat);
+        }
+
+        Arrays.sort(keys);
+        PokerMetrics.handsRanked(n);
+
+        List<Player> ranking = new ArrayList<>(n);
+
+        for (int i = n - 1; i >= 0; i--) {
+            ranking.add(players.get(0xFF - (int) (keys[i] & 0xFF)));
+        }
+        return ranking;
+    }
+
+    /**
+     * Finds players with strongest hand from ranking of hands.
+     * @return players with strongest hand in seat order, more than one if hands are tied
+     */
+    public List<Player> findWinners() {
+
+        List<Player> ranking = rankPlayers();
+        int strength = ranking.get(0).getHand().getStrength();
+        int count = 1;
+
+        while (count < ranking.size() && ranking.get(count).getHand().getStrength() == strength) {
+            count++;
+        }
+        return ranking.subList(0, count);
+    }
+
+    /**
+     * After player wins round then chips are added to players chip collection.
+     * Also removes all chips from game chip pool.
+     * @param player player to receive chips in game's chip pool
+     * @return chips count that player received
+     */
+    public int collectBet(Player player) {
+
+        int collectedChips = chipsInPlay;
+
+        player.setChips(player.getChips() + chipsInPlay);
+        chipsInPlay = 0;
+
+        return collectedChips;
+    }
+
+    /**
+     * This method is accessed in rare chance that players are tied. It takes
+     * chips from game's chip pool and adds equal part of the pool to every tied players chip collection.
+     * If pool can not be split equally then remaining chips are given one by one to
+     * tied players in seat order. Removes chips from chip pool.
+     * @param winners tied players in seat order
+     * @return chips count that every tied player received without remaining chips
+     */
+    public int splitBet(List<Player> winners) {
+
+        int splitedChips = chipsInPlay / winners.size();
+        int remainingChips = chipsInPlay % winners.size();
+
+        for (int i = 0; i < winners.size(); i++) {
+            Player player = winners.get(i);
+            player.setChips(player.getChips() + splitedChips + (i < remainingChips ? 1 : 0));
+        }
+
+        chipsInPlay = 0;
+
+        return splitedChips;
+    }
+
+    /**
+     * Checks chip counts of players. Players who have 0 chips remaining leave the table.
+     * @return players who have run out of chips, empty list if every player has chips left
+     */
+    public List<Player> checkChips() {
+
+        List<Player> losers = new ArrayList<>();
+
+        for (Player player : players) {
+            if (player.getChips() == 0) {
+                losers.add(player);
+            }
+        }
+
+        players.removeAll(losers);
+        return losers;
+    }
+}
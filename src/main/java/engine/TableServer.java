@@ -0,0 +1,228 @@
+package engine;
+
+import pools.CardDeck;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * TableServer hosts many game tables on a few threads.
+ *
+ * Every table is a GameSession that reads its player from QueueInput. Tables are stepped
+ * by a cooperative scheduler: table is given to a worker thread only when its player has
+ * entered a line, worker runs at most STEPS_PER_TURN states and gives table back. Table
+ * that waits for its player takes no thread, so thousands of tables fit on a few cores.
+ *
+ * Computer strategies run on worker threads, so they must not block: a blocked worker
+ * stalls every table queued behind it. DrawSolverStrategy only looks up precomputed
+ * draw table or discards by heuristic and never solves hands on a worker.
+ *
+ * Every table has its own deck. Evaluator tables and Card objects are immutable and
+ * shared by all tables.
+ * @see GameSession
+ */
+public class TableServer implements AutoCloseable {
+
+    /**
+     * Count of states a table runs before it gives its worker to other tables
+     */
+    public static final int STEPS_PER_TURN = 64;
+
+    private final ExecutorService workers;
+    private final Supplier<PlayerStrategy> computers;
+    private final int seats;
+    private final Map<Integer, ServerTable> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Initializes server where computer players discard with DrawSolverStrategy.
+     * @param threads count of worker threads
+     */
+    public TableServer(int threads) {
+        this(threads, DrawSolverStrategy::new);
+    }
+
+    /**
+     * Initializes server of 2 player tables with given computer strategies.
+     * @param threads count of worker threads
+     * @param computers creates strategy of computer player for every table
+     */
+    public TableServer(int threads, Supplier<PlayerStrategy> computers) {
+        this(threads, Table.MIN_SEATS, computers);
+    }
+
+    /**
+     * Initializes server with given count of seats at every table.
+     *
+     * Throws IllegalArgumentException if there are less than 2 or more than 10 seats.
+     *
+     * @param threads count of worker threads
+     * @param seats count of players at every table with human player
+     * @param computers creates strategy of computer players for every table
+     */
+    public TableServer(int threads, int seats, Supplier<PlayerStrategy> computers) {
+
+        if (seats < Table.MIN_SEATS || seats > Table.MAX_SEATS) {
+            throw new IllegalArgumentException("Table has to have " + Table.MIN_SEATS + " to " + Table.MAX_SEATS + " players!");
+        }
+
+        this.seats = seats;
+        this.computers = computers;
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "table-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens new table and starts its game.
+     * @param input lines of human player
+     * @param output receiver of game messages, called from worker threads
+     * @return id of opened table
+     */
+    public int openTable(QueueInput input, Consumer<String> output) {
+        return openTable(input, output, null);
+    }
+
+    /**
+     * Opens new table and starts its game.
+     * @param input lines of human player
+     * @param output receiver of game messages, called from worker threads
+     * @param closed called when session of table is over, null for none
+     * @return id of opened table
+     */
+    public int openTable(QueueInput input, Consumer<String> output, Runnable closed) {
+
+        int id = nextId.incrementAndGet();
+        GameSession session = new GameSession(input, output, computers.get(), new CardDeck(), seats);
+        ServerTable table = new ServerTable(id, session, input, closed);
+
+        tables.put(id, table);
+        input.setListener(table::schedule);
+        table.schedule();
+
+        return id;
+    }
+
+    /**
+     * @return count of tables which sessions are not over
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * @param id id of table
+     * @return current state of table or null if table is closed
+     */
+    public GameState getState(int id) {
+
+        ServerTable table = tables.get(id);
+        return table == null ? null : table.session.getState();
+    }
+
+    /**
+     * Stops worker threads. Tables that are not over are left where they are.
+     */
+    @Override
+    public void close() {
+
+        workers.shutdownNow();
+
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Table of server. Table is scheduled at most once at a time, so its session is
+     * stepped by one worker at a time.
+     */
+    private class ServerTable {
+
+        private final int id;
+        private final GameSession session;
+        private final QueueInput input;
+        private final Runnable closed;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        ServerTable(int id, GameSession session, QueueInput input, Runnable closed) {
+            this.id = id;
+            this.session = session;
+            this.input = input;
+            this.closed = closed;
+        }
+
+        /**
+         * Gives table to a worker if it is not already given. After server is closed
+         * tables are not given to workers anymore.
+         */
+        void schedule() {
+
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                workers.execute(this::turn);
+            }
+            catch (RejectedExecutionException ex) {
+                scheduled.set(false);
+            }
+        }
+
+        /**
+         * Runs states of session until it waits for input or its turn is used up. If session
+         * throws then table is closed like a finished one and exception goes to worker thread.
+         */
+        private void turn() {
+
+            boolean runnable = true;
+            boolean stepped = false;
+
+            try {
+                for (int i = 0; i < STEPS_PER_TURN && runnable; i++) {
+                    runnable = session.step();
+                }
+                stepped = true;
+            }
+            finally {
+                scheduled.set(false);
+
+                if (!stepped || session.getState() == GameState.OVER) {
+                    finish();
+                }
+            }
+
+            if (session.getState() != GameState.OVER && (runnable || input.isReady())) {
+                // Line may have come after session read input and before table was given back
+                schedule();
+            }
+        }
+
+        /**
+         * Removes table from server and tells that its session is over.
+         */
+        private void finish() {
+
+            input.setListener(null);
+            input.close();
+
+            if (tables.remove(id) != null && closed != null) {
+                closed.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package enums;
+
+/**
+ * When written data is forced from OS cache to disk
+ */
+public enum FsyncPolicy {
+    /**
+     * Data is never forced, OS writes it to disk later
+     */
+    NONE,
+    /**
+     * Segment is forced when it is full and when writer is closed
+     */
+    SEGMENT,
+    /**
+     * Every batch is forced after it is written
+     */
+    BATCH
+}
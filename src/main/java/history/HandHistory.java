@@ -0,0 +1,91 @@
+package history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary format of hand history. History is written into segment files of a directory and
+ * segment files are named hands-00000001.seg, hands-00000002.seg, ... in order they are written.
+ * All numbers are in little endian.
+ *
+ * Segment starts with header:
+ * <pre>
+ *     int   magic "PKHH"
+ *     int   version
+ *     long  creation time in milliseconds
+ * </pre>
+ * and is followed by records of rounds. Every record has 32 bytes of round data:
+ * <pre>
+ *     short length of record in bytes
+ *     byte  count of seats
+ *     byte  blind bet
+ *     int   round number in game, first round is 1
+ *     long  game id, unique in history directory
+ *     long  end time of round in milliseconds
+ *     int   chips pool of round
+ *     int   bet of every player with blind bet
+ * </pre>
+ * and 28 bytes of every seat in seat order:
+ * <pre>
+ *     byte  player id
+ *     byte  flags, 1 if player won or split the pool
+ *     short strength of final hand
+ *     int   chips of player before round
+ *     int   chips that player received from pool
+ *     long  bits of dealt cards
+ *     long  bits of cards after draw
+ * </pre>
+ * Cards are bits of CardSet.
+ * @see models.CardSet
+ * @see HandHistoryWriter
+ */
+public final class HandHistory {
+
+    /**
+     * Version of history format
+     */
+    public static final int VERSION = 1;
+
+    static final int MAGIC = 0x48484B50;
+    static final int SEGMENT_HEADER = 16;
+    static final int RECORD_HEADER = 32;
+    static final int SEAT_SIZE = 28;
+
+    /**
+     * Length of largest record, record of a table of 10 seats
+     */
+    public static final int MAX_RECORD = RECORD_HEADER + 10 * SEAT_SIZE;
+
+    static final int FLAG_WINNER = 1;
+
+    private HandHistory() {
+    }
+
+    /**
+     * @param index index of segment from 1
+     * @return file name of segment
+     */
+    static String segmentName(long index) {
+        return String.format("hands-%08d.seg", index);
+    }
+
+    /**
+     * @param fileName name of file in history directory
+     * @return index of segment or -1 if file is not a segment
+     */
+    static long segmentIndex(String fileName) {
+
+        if (!fileName.matches("hands-[0-9]{8,}\\.seg")) {
+            return -1;
+        }
+        return Long.parseLong(fileName.substring(6, fileName.length() - 4));
+    }
+
+    /**
+     * Writes segment header into buffer at its position.
+     */
+    static void putSegmentHeader(ByteBuffer buffer, long time) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(time);
+    }
+}
@@ -0,0 +1,215 @@
+package history;
+
+import analyzers.HandEvaluator;
+import models.HistoryReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * HandHistoryReader reads hand history that HandHistoryWriter has written.
+ *
+ * Every segment is mapped read-only into memory and records are visited in order through one
+ * HandRecord view, so reading creates no objects per record and history does not take heap.
+ * Segments are independent, so aggregates of a directory are computed segment by segment in
+ * parallel and merged at the end.
+ *
+ * Writer writes whole records, but a writer that was stopped abruptly can leave last record of
+ * its segment incomplete. Incomplete record at end of segment is skipped. Analyze also skips
+ * records with player id, strength or pool out of range and counts them in report, so one
+ * damaged record does not stop reading of whole directory.
+ * @see HandHistory
+ * @see HandRecord
+ */
+public class HandHistoryReader {
+
+    private HandHistoryReader() {
+    }
+
+    /**
+     * @param directory history directory
+     * @return segment files of directory in order they were written
+     * @throws IOException if directory can not be read
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+
+        List<Path> segments = new ArrayList<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (HandHistory.segmentIndex(file.getFileName().toString()) > 0) {
+                    segments.add(file);
+                }
+            }
+        }
+
+        segments.sort(Comparator.comparingLong(file -> HandHistory.segmentIndex(file.getFileName().toString())));
+        return segments;
+    }
+
+    /**
+     * Visits every record of segment in order. Visitor gets same view for every record.
+     * @param segment segment file
+     * @param visitor visitor of records
+     * @return count of visited records
+     * @throws IOException if segment can not be read or it is not a history segment
+     */
+    public static long forEach(Path segment, Consumer<HandRecord> visitor) throws IOException {
+
+        ByteBuffer buffer = map(segment);
+        HandRecord record = new HandRecord();
+        int offset = HandHistory.SEGMENT_HEADER;
+        int limit = buffer.limit();
+        long count = 0;
+
+        while (offset + HandHistory.RECORD_HEADER <= limit) {
+
+            record.moveTo(buffer, offset);
+            int length = record.getLength();
+
+            if (length != HandHistory.RECORD_HEADER + record.getSeats() * HandHistory.SEAT_SIZE) {
+                throw new IOException("Broken record at offset " + offset + " of " + segment);
+            }
+
+            if (offset + length > limit) {
+                break;
+            }
+
+            visitor.accept(record);
+            offset += length;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Visits every record of every segment of directory in order.
+     * @param directory history directory
+     * @param visitor visitor of records
+     * @return count of visited records
+     * @throws IOException if a segment can not be read
+     */
+    public static long forEachInDirectory(Path directory, Consumer<HandRecord> visitor) throws IOException {
+
+        long count = 0;
+
+        for (Path segment : segments(directory)) {
+            count += forEach(segment, visitor);
+        }
+        return count;
+    }
+
+    /**
+     * Computes aggregates of all segments of directory. Segments are read in parallel
+     * with common ForkJoinPool.
+     * @param directory history directory
+     * @return win rates of players, shown hands by category and pool sizes
+     * @throws IOException if a segment can not be read
+     */
+    public static HistoryReport analyze(Path directory) throws IOException {
+
+        long start = System.nanoTime();
+
+        HistoryReport report;
+
+        try {
+            report = segments(directory).parallelStream()
+                    .map(HandHistoryReader::analyzeSegment)
+                    .reduce(new HistoryReport(), (a, b) -> {
+                        HistoryReport merged = new HistoryReport();
+                        merged.add(a);
+                        merged.add(b);
+                        return merged;
+                    });
+        }
+        catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Computes aggregates of one segment.
+     */
+    private static HistoryReport analyzeSegment(Path segment) {
+
+        HistoryReport report = new HistoryReport();
+
+        try {
+            forEach(segment, record -> {
+
+                if (!isValid(record)) {
+                    report.addSkipped();
+                    return;
+                }
+
+                report.addRound(record.getPool());
+
+                for (int seat = 0; seat < record.getSeats(); seat++) {
+                    report.addHand(record.getPlayerId(seat), record.getPokerHand(seat), record.isWinner(seat));
+                }
+            });
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return report;
+    }
+
+    /**
+     * Checks that values of record fit in HistoryReport.
+     */
+    private static boolean isValid(HandRecord record) {
+
+        if (record.getSeats() < 1 || record.getSeats() > HistoryReport.MAX_PLAYERS || record.getPool() < 0) {
+            return false;
+        }
+
+        for (int seat = 0; seat < record.getSeats(); seat++) {
+
+            int playerId = record.getPlayerId(seat);
+            int strength = record.getStrength(seat);
+
+            if (playerId < 1 || playerId > HistoryReport.MAX_PLAYERS
+                    || strength < 1 || strength > HandEvaluator.STRENGTH_CLASSES) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Maps segment read-only and checks its header.
+     */
+    private static ByteBuffer map(Path segment) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+
+            if (size < HandHistory.SEGMENT_HEADER || size > Integer.MAX_VALUE) {
+                throw new IOException("File is not a hand history segment: " + segment);
+            }
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt(0) != HandHistory.MAGIC || buffer.getInt(4) != HandHistory.VERSION) {
+                throw new IOException("File is not a hand history segment of version " + HandHistory.VERSION + ": " + segment);
+            }
+            return buffer;
+        }
+    }
+}
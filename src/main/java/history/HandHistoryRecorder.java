@@ -0,0 +1,174 @@
+package history;
+
+import engine.GameListener;
+import engine.Table;
+import models.CardSet;
+import models.Player;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * HandHistoryRecorder listens to one game thread and writes every round into its own batch
+ * buffer. Batch is submitted to HandHistoryWriter and recording goes on in a new buffer,
+ * so game thread does not write files itself and does not share buffers with other threads.
+ *
+ * Batch is submitted when it is full, when it holds flushRounds rounds, when its first round is
+ * older than flushMillis and when recorder is closed. Rounds that are not submitted yet live only
+ * in heap and are lost on crash: at most flushRounds rounds, and while table keeps playing none
+ * older than flushMillis. Table that goes idle keeps its last rounds until its next round ends, so
+ * recorder of an interactive table should submit every round. Submitted rounds are on disk as soon
+ * as writer has written them with FsyncPolicy BATCH, otherwise they are in OS cache until segment
+ * is forced.
+ *
+ * Recorder is not thread safe. Every GameEngine or GameSession should have its own recorder
+ * and recorder should be closed when its games are over, so last batch is submitted.
+ * @see HandHistory
+ */
+public class HandHistoryRecorder implements GameListener, Closeable {
+
+    /**
+     * Default count of rounds after which batch is submitted
+     */
+    public static final int FLUSH_ROUNDS = 512;
+
+    /**
+     * Default age of first round of batch in milliseconds after which batch is submitted
+     */
+    public static final long FLUSH_MILLIS = 1000;
+
+    private static final int BLIND = 1;
+
+    private final HandHistoryWriter writer;
+    private final int flushRounds;
+    private final long flushMillis;
+    private final long[] dealtBits = new long[Table.MAX_SEATS];
+    private final int[] chipsBefore = new int[Table.MAX_SEATS];
+
+    private ByteBuffer batch;
+    private Table table;
+    private long gameId;
+    private int round;
+    private int bet;
+    private int pool;
+    private int unflushedRounds;
+    private long firstRoundMillis;
+
+    /**
+     * Initializes recorder that submits its batch every FLUSH_ROUNDS rounds or FLUSH_MILLIS.
+     * @param writer writer that batches are submitted to
+     */
+    public HandHistoryRecorder(HandHistoryWriter writer) {
+        this(writer, FLUSH_ROUNDS, FLUSH_MILLIS);
+    }
+
+    /**
+     * Throws IllegalArgumentException if flushRounds is not positive.
+     *
+     * @param writer writer that batches are submitted to
+     * @param flushRounds count of rounds after which batch is submitted, 1 submits every round
+     * @param flushMillis age of first round of batch in milliseconds after which batch is submitted
+     */
+    public HandHistoryRecorder(HandHistoryWriter writer, int flushRounds, long flushMillis) {
+
+        if (flushRounds < 1) {
+            throw new IllegalArgumentException("Flush rounds has to be positive!");
+        }
+
+        this.writer = writer;
+        this.flushRounds = flushRounds;
+        this.flushMillis = flushMillis;
+        this.batch = writer.takeBuffer();
+    }
+
+    @Override
+    public void roundStarted(Table table) {
+
+        if (table != this.table) {
+            this.table = table;
+            gameId = writer.nextGameId();
+            round = 0;
+        }
+
+        round++;
+        bet = BLIND;
+        pool = table.getChipsInPlay();
+
+        List<Player> players = table.getPlayers();
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            dealtBits[seat] = CardSet.bitsOf(player.getHand().getCards());
+            chipsBefore[seat] = player.getChips() + BLIND;
+        }
+    }
+
+    @Override
+    public void raised(Player player, int betSize, Table table) {
+        bet += betSize;
+        pool = table.getChipsInPlay();
+    }
+
+    @Override
+    public void roundEnded(List<Player> winners, int chips) {
+
+        List<Player> players = table.getPlayers();
+
+        if (batch.remaining() < HandHistory.MAX_RECORD) {
+            flush();
+        }
+
+        long now = System.currentTimeMillis();
+
+        if (unflushedRounds == 0) {
+            firstRoundMillis = now;
+        }
+
+        batch.putShort((short) (HandHistory.RECORD_HEADER + players.size() * HandHistory.SEAT_SIZE));
+        batch.put((byte) players.size());
+        batch.put((byte) BLIND);
+        batch.putInt(round);
+        batch.putLong(gameId);
+        batch.putLong(now);
+        batch.putInt(pool);
+        batch.putInt(bet);
+
+        for (int seat = 0; seat < players.size(); seat++) {
+
+            Player player = players.get(seat);
+
+            batch.put((byte) player.getId());
+            batch.put((byte) (winners.contains(player) ? HandHistory.FLAG_WINNER : 0));
+            batch.putShort((short) player.getHand().getStrength());
+            batch.putInt(chipsBefore[seat]);
+            batch.putInt(player.getChips() - (chipsBefore[seat] - bet));
+            batch.putLong(dealtBits[seat]);
+            batch.putLong(CardSet.bitsOf(player.getHand().getCards()));
+        }
+
+        if (++unflushedRounds >= flushRounds || now - firstRoundMillis >= flushMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Submits recorded rounds to writer and continues in a new buffer.
+     */
+    public void flush() {
+
+        if (batch.position() > 0) {
+            writer.submit(batch);
+            batch = writer.takeBuffer();
+        }
+        unflushedRounds = 0;
+    }
+
+    /**
+     * Submits last recorded rounds to writer.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
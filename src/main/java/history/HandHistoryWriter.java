@@ -0,0 +1,355 @@
+package history;
+
+import enums.FsyncPolicy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HandHistoryWriter appends batches of hand history records to segment files of a directory
+ * on a background thread.
+ *
+ * Game threads fill their own batch buffers with HandHistoryRecorder and submit full batches.
+ * Batches wait in a bounded queue, so when disk can not keep up, submitting blocks until writer
+ * has room again instead of growing memory. Writer drains all waiting batches at once and appends
+ * them to current segment through a FileChannel. When segment is full, next segment is started.
+ * Written buffers are reused for next batches.
+ *
+ * Every writer starts a new segment after existing segments of directory, so history of earlier
+ * runs is never overwritten. Game ids are unique in directory because they start from index of
+ * first segment of writer.
+ * @see HandHistory
+ * @see HandHistoryRecorder
+ */
+public class HandHistoryWriter implements Closeable {
+
+    /**
+     * Size of one batch buffer in bytes
+     */
+    public static final int BATCH_SIZE = 64 * 1024;
+
+    /**
+     * Default size of segment file in bytes
+     */
+    public static final long SEGMENT_SIZE = 64L << 20;
+
+    /**
+     * Default count of batches that can wait for writer
+     */
+    public static final int QUEUE_CAPACITY = 64;
+
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final FsyncPolicy fsync;
+    private final BlockingQueue<ByteBuffer> queue;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextGameId;
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final Thread thread;
+
+    private long segmentIndex;
+    private FileChannel segment;
+    private long segmentPosition;
+
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * Initializes writer with default segment size and queue capacity that forces
+     * every segment to disk when it is full.
+     * @param directory directory of segment files, created if it does not exist
+     * @throws IOException if directory can not be created or read
+     */
+    public HandHistoryWriter(Path directory) throws IOException {
+        this(directory, SEGMENT_SIZE, FsyncPolicy.SEGMENT, QUEUE_CAPACITY);
+    }
+
+    /**
+     * Initializes writer and starts its background thread.
+     *
+     * Throws IllegalArgumentException if segment can not hold a batch, segment is bigger than 2 GB
+     * which reader can map at once or queue capacity is not positive.
+     *
+     * @param directory directory of segment files, created if it does not exist
+     * @param segmentSize size of segment file in bytes after which next segment is started
+     * @param fsync when written batches are forced to disk
+     * @param queueCapacity count of batches that can wait before submitting blocks
+     * @throws IOException if directory can not be created or read
+     */
+    public HandHistoryWriter(Path directory, long segmentSize, FsyncPolicy fsync, int queueCapacity) throws IOException {
+
+        if (segmentSize < HandHistory.SEGMENT_HEADER + BATCH_SIZE || segmentSize > Integer.MAX_VALUE || queueCapacity < 1) {
+            throw new IllegalArgumentException("Segment has to hold a batch and be up to 2 GB and queue has to hold at least 1 batch!");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Files.createDirectories(directory);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                segmentIndex = Math.max(segmentIndex, HandHistory.segmentIndex(file.getFileName().toString()));
+            }
+        }
+
+        nextGameId = new AtomicLong((segmentIndex + 1) << 32);
+
+        thread = new Thread(this::run, "hand-history-writer");
+        thread.start();
+    }
+
+    /**
+     * @return empty batch buffer in little endian order
+     */
+    public ByteBuffer takeBuffer() {
+
+        ByteBuffer buffer = free.poll();
+
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BATCH_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Submits batch of records for writing. Batch is written from its start to its position and
+     * buffer must not be used after submitting. If queue is full then waits until writer has room.
+     *
+     * Throws IllegalStateException if writer is closed and UncheckedIOException if writer has failed.
+     *
+     * @param batch buffer with whole records
+     */
+    public void submit(ByteBuffer batch) {
+
+        checkOpen();
+        batch.flip();
+
+        if (!batch.hasRemaining()) {
+            free.offer(batch);
+            return;
+        }
+
+        put(batch);
+    }
+
+    /**
+     * @return new game id that is unique in history directory
+     */
+    public long nextGameId() {
+        return nextGameId.getAndIncrement();
+    }
+
+    /**
+     * @return count of bytes written into segments, segment headers included
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    /**
+     * @return directory of segment files
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Writes all submitted batches, closes current segment and stops background thread.
+     * @throws IOException if a batch could not be written
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        put(END);
+
+        boolean interrupted = false;
+
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void checkOpen() {
+
+        if (failure != null) {
+            throw new UncheckedIOException("Hand history could not be written", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Hand history writer is closed!");
+        }
+    }
+
+    /**
+     * Puts batch into queue. Batches are history of played rounds, so waiting is not
+     * given up when thread is interrupted.
+     */
+    private void put(ByteBuffer batch) {
+
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                queue.put(batch);
+                break;
+            }
+            catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes batches until end of queue. After a failure batches are only taken from queue,
+     * so game threads are not blocked forever.
+     */
+    private void run() {
+
+        List<ByteBuffer> batches = new ArrayList<>();
+        boolean end = false;
+
+        while (!end) {
+
+            batches.clear();
+            batches.add(take());
+            queue.drainTo(batches);
+
+            for (ByteBuffer batch : batches) {
+
+                if (batch == END) {
+                    end = true;
+                    continue;
+                }
+
+                if (failure == null) {
+                    try {
+                        write(batch);
+                    }
+                    catch (IOException ex) {
+                        failure = ex;
+                    }
+                }
+                free.offer(batch);
+            }
+
+            if (failure == null && fsync == FsyncPolicy.BATCH && segment != null) {
+                try {
+                    segment.force(false);
+                }
+                catch (IOException ex) {
+                    failure = ex;
+                }
+            }
+        }
+
+        try {
+            closeSegment();
+        }
+        catch (IOException ex) {
+            if (failure == null) {
+                failure = ex;
+            }
+        }
+    }
+
+    private ByteBuffer take() {
+
+        while (true) {
+            try {
+                return queue.take();
+            }
+            catch (InterruptedException ex) {
+                // writer stops only at end of queue
+            }
+        }
+    }
+
+    private void write(ByteBuffer batch) throws IOException {
+
+        if (segment == null || segmentPosition + batch.remaining() > segmentSize) {
+            closeSegment();
+            openSegment();
+        }
+
+        segmentPosition += batch.remaining();
+        writtenBytes.addAndGet(batch.remaining());
+
+        while (batch.hasRemaining()) {
+            segment.write(batch);
+        }
+    }
+
+    private void openSegment() throws IOException {
+
+        segmentIndex++;
+        segment = FileChannel.open(directory.resolve(HandHistory.segmentName(segmentIndex)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HandHistory.SEGMENT_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        HandHistory.putSegmentHeader(header, System.currentTimeMillis());
+        header.flip();
+
+        segmentPosition = 0;
+        write(header);
+    }
+
+    private void closeSegment() throws IOException {
+
+        if (segment == null) {
+            return;
+        }
+
+        try {
+            if (fsync != FsyncPolicy.NONE) {
+                segment.force(false);
+            }
+        }
+        finally {
+            segment.close();
+            segment = null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package history;
+
+import analyzers.HandEvaluator;
+import enums.PokerHand;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HandRecord is a view of one round record in a buffer of hand history. Reader moves same view
+ * from record to record, so reading history creates no objects per record. Values are read
+ * straight from buffer, so view must not be kept after visitor returns.
+ * @see HandHistory
+ * @see HandHistoryReader
+ */
+public final class HandRecord {
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    HandRecord() {
+    }
+
+    /**
+     * Moves view to record at given offset of buffer.
+     */
+    void moveTo(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * @return length of record in bytes
+     */
+    public int getLength() {
+        return buffer.getShort(offset);
+    }
+
+    /**
+     * @return count of seats in round
+     */
+    public int getSeats() {
+        return buffer.get(offset + 2);
+    }
+
+    /**
+     * @return blind bet of every player
+     */
+    public int getBlind() {
+        return buffer.get(offset + 3);
+    }
+
+    /**
+     * @return round number in game, first round is 1
+     */
+    public int getRound() {
+        return buffer.getInt(offset + 4);
+    }
+
+    /**
+     * @return game id that is unique in history directory
+     */
+    public long getGameId() {
+        return buffer.getLong(offset + 8);
+    }
+
+    /**
+     * @return end time of round in milliseconds
+     */
+    public long getTime() {
+        return buffer.getLong(offset + 16);
+    }
+
+    /**
+     * @return chips pool of round
+     */
+    public int getPool() {
+        return buffer.getInt(offset + 24);
+    }
+
+    /**
+     * @return bet of every player with blind bet
+     */
+    public int getBet() {
+        return buffer.getInt(offset + 28);
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return id of player in seat
+     */
+    public int getPlayerId(int seat) {
+        return buffer.get(seatOffset(seat));
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return true if player in seat won or split the pool
+     */
+    public boolean isWinner(int seat) {
+        return (buffer.get(seatOffset(seat) + 1) & HandHistory.FLAG_WINNER) != 0;
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return strength of final hand of player in seat
+     */
+    public int getStrength(int seat) {
+        return buffer.getShort(seatOffset(seat) + 2);
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return PokerHand of final hand of player in seat
+     */
+    public PokerHand getPokerHand(int seat) {
+        return HandEvaluator.getPokerHand(getStrength(seat));
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return chips of player in seat before round
+     */
+    public int getChipsBefore(int seat) {
+        return buffer.getInt(seatOffset(seat) + 4);
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return chips that player in seat received from pool
+     */
+    public int getReceived(int seat) {
+        return buffer.getInt(seatOffset(seat) + 8);
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return bits of cards that player in seat was dealt
+     * @see models.CardSet
+     */
+    public long getDealtBits(int seat) {
+        return buffer.getLong(seatOffset(seat) + 12);
+    }
+
+    /**
+     * @param seat seat from 0 to seat count - 1
+     * @return bits of cards of player in seat after draw
+     * @see models.CardSet
+     */
+    public long getFinalBits(int seat) {
+        return buffer.getLong(seatOffset(seat) + 20);
+    }
+
+    private int seatOffset(int seat) {
+        return offset + HandHistory.RECORD_HEADER + seat * HandHistory.SEAT_SIZE;
+    }
+}
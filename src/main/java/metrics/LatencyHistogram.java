@@ -0,0 +1,113 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram counts durations in buckets of powers of two nanoseconds. Bucket i holds
+ * durations from 2^(i-1) to 2^i - 1 nanoseconds, so recording is one bit count and one add.
+ * Buckets are LongAdders, so threads that record at same time do not contend on one counter.
+ * Percentiles are upper bounds of buckets, so they are at most 2 times bigger than real values.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Initializes empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds duration to histogram. Negative durations are counted as 0.
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+
+        long duration = Math.max(0, nanos);
+
+        buckets[BUCKETS - Long.numberOfLeadingZeros(duration)].increment();
+        total.add(duration);
+        max.accumulate(duration);
+    }
+
+    /**
+     * @return count of recorded durations
+     */
+    public long getCount() {
+
+        long count = 0;
+
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return average duration in nanoseconds
+     */
+    public double getMean() {
+
+        long count = getCount();
+
+        if (count == 0) {
+            return 0;
+        }
+        return (double) total.sum() / count;
+    }
+
+    /**
+     * @return longest duration in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param share share of durations from 0 to 1
+     * @return upper bound of durations that given share of durations does not exceed
+     */
+    public long getPercentile(double share) {
+
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+
+        long rank = (long) Math.ceil(share * count);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+
+            if (seen >= rank && seen > 0) {
+                return Math.min((1L << i) - 1, getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes all recorded durations.
+     */
+    public void reset() {
+
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,319 @@
+package metrics;
+
+import enums.PokerHand;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PokerMetrics records counts and latencies of hot paths: hand construction and classification,
+ * ranking of hands at showdown, random dealing of CardDeck and rounds of GameEngine and GameSession.
+ * Comparators of Hand are not instrumented, they are counted where a showdown ranks its hands.
+ *
+ * Counters are LongAdders and histograms are LatencyHistograms, so threads record into their own
+ * cells and do not contend. Every event is counted, but only one of SAMPLE_RATE events is timed,
+ * because reading the clock takes about as long as creating a hand. Events are picked for timing
+ * by a per thread countdown, which costs a load and a store instead of a random number. Counting
+ * a hand is still an atomic add of about 5 ns, so benchmarks should run with metrics off.
+ *
+ * Metrics are recorded unless system property poker.metrics is "false". Flag is read once into a
+ * constant, so with metrics off JIT removes recording from hot paths entirely. Metrics are published
+ * as MXBean poker:type=Metrics after register is called.
+ * @see PokerMetricsMXBean
+ */
+public final class PokerMetrics implements PokerMetricsMXBean {
+
+    /**
+     * True if metrics are recorded
+     */
+    public static final boolean ENABLED = !"false".equals(System.getProperty("poker.metrics"));
+
+    /**
+     * One of this many hand constructions and deals is timed
+     */
+    public static final int SAMPLE_RATE = 64;
+
+    /**
+     * Name of metrics MXBean
+     */
+    public static final String OBJECT_NAME = "poker:type=Metrics";
+
+    /**
+     * Start time of event that is not timed
+     */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final PokerMetrics INSTANCE = new PokerMetrics();
+
+    /**
+     * Sample countdowns are padded to own cache lines, threads pick one by thread id
+     */
+    private static final int COUNTDOWN_STRIPES = 64;
+    private static final int COUNTDOWN_PADDING = 16;
+    private static final int[] COUNTDOWNS = new int[COUNTDOWN_STRIPES * COUNTDOWN_PADDING];
+
+    private static final LongAdder RANKED_HANDS = new LongAdder();
+    private static final LongAdder DEALS = new LongAdder();
+    private static final LongAdder ROUNDS = new LongAdder();
+
+    /**
+     * Counts of created hands by PokerHand ordinal and count of hands that are not 5 cards in last
+     * index, so creating a hand adds to only one counter
+     */
+    private static final LongAdder[] CATEGORIES = new LongAdder[PokerHand.values().length + 1];
+
+    private static final LatencyHistogram HAND_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram DEAL_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram ROUND_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram SESSION_ROUND_LATENCY = new LatencyHistogram();
+
+    static {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            CATEGORIES[i] = new LongAdder();
+        }
+    }
+
+    private PokerMetrics() {
+    }
+
+    /**
+     * Registers metrics MXBean in platform MBeanServer. Registering again does nothing.
+     * @return true if metrics are enabled and registered
+     */
+    public static boolean register() {
+
+        if (!ENABLED) {
+            return false;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        }
+        catch (InstanceAlreadyExistsException ex) {
+            // registered before
+        }
+        catch (JMException ex) {
+            throw new IllegalStateException("Could not register metrics", ex);
+        }
+        return true;
+    }
+
+    /**
+     * @return metrics that MXBean publishes
+     */
+    public static PokerMetricsMXBean get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts timing of a sampled event. Every SAMPLE_RATE-th event of a thread is timed.
+     * Threads whose ids share a countdown may lose its updates, which only moves the sample.
+     * @return current time in nanoseconds if event is timed, otherwise NOT_SAMPLED
+     */
+    public static long startSample() {
+
+        if (!ENABLED) {
+            return NOT_SAMPLED;
+        }
+
+        int index = ((int) Thread.currentThread().getId() & (COUNTDOWN_STRIPES - 1)) * COUNTDOWN_PADDING;
+        int countdown = COUNTDOWNS[index] - 1;
+
+        if (countdown > 0) {
+            COUNTDOWNS[index] = countdown;
+            return NOT_SAMPLED;
+        }
+
+        COUNTDOWNS[index] = SAMPLE_RATE;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records created hand.
+     * @param pokerHand category of hand or null if hand is not 5 cards
+     * @param start result of startSample when construction started
+     */
+    public static void handCreated(PokerHand pokerHand, long start) {
+
+        if (!ENABLED) {
+            return;
+        }
+
+        CATEGORIES[pokerHand == null ? CATEGORIES.length - 1 : pokerHand.ordinal()].increment();
+
+        if (start != NOT_SAMPLED) {
+            HAND_LATENCY.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records showdown where hands are ranked.
+     * @param hands count of ranked hands
+     */
+    public static void handsRanked(int hands) {
+        if (ENABLED) {
+            RANKED_HANDS.add(hands);
+        }
+    }
+
+    /**
+     * Records random deal of cards.
+     * @param start result of startSample when dealing started
+     */
+    public static void cardsDealt(long start) {
+
+        if (!ENABLED) {
+            return;
+        }
+
+        DEALS.increment();
+
+        if (start != NOT_SAMPLED) {
+            DEAL_LATENCY.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records round of GameEngine.
+     * @param start result of startSample when round started
+     */
+    public static void roundPlayed(long start) {
+        record(ROUND_LATENCY, start);
+    }
+
+    /**
+     * Records round of GameSession.
+     * @param start result of startSample when round started
+     */
+    public static void sessionRoundPlayed(long start) {
+        record(SESSION_ROUND_LATENCY, start);
+    }
+
+    private static void record(LatencyHistogram histogram, long start) {
+
+        if (!ENABLED) {
+            return;
+        }
+
+        ROUNDS.increment();
+
+        if (start != NOT_SAMPLED) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public long getHandsCreated() {
+
+        long hands = 0;
+
+        for (LongAdder category : CATEGORIES) {
+            hands += category.sum();
+        }
+        return hands;
+    }
+
+    @Override
+    public Map<String, Long> getHandCategories() {
+
+        Map<String, Long> categories = new LinkedHashMap<>();
+
+        for (PokerHand pokerHand : PokerHand.values()) {
+            categories.put(pokerHand.name(), CATEGORIES[pokerHand.ordinal()].sum());
+        }
+        return categories;
+    }
+
+    @Override
+    public long getRankedHands() {
+        return RANKED_HANDS.sum();
+    }
+
+    @Override
+    public long getRandomDeals() {
+        return DEALS.sum();
+    }
+
+    @Override
+    public long getRounds() {
+        return ROUNDS.sum();
+    }
+
+    @Override
+    public Map<String, String> getLatencies() {
+
+        Map<String, String> latencies = new LinkedHashMap<>();
+
+        latencies.put("hand", describe(HAND_LATENCY));
+        latencies.put("deal", describe(DEAL_LATENCY));
+        latencies.put("round", describe(ROUND_LATENCY));
+        latencies.put("sessionRound", describe(SESSION_ROUND_LATENCY));
+
+        return latencies;
+    }
+
+    @Override
+    public double getHandMeanNanos() {
+        return HAND_LATENCY.getMean();
+    }
+
+    @Override
+    public long getHandP99Nanos() {
+        return HAND_LATENCY.getPercentile(0.99);
+    }
+
+    @Override
+    public double getDealMeanNanos() {
+        return DEAL_LATENCY.getMean();
+    }
+
+    @Override
+    public double getRoundMeanNanos() {
+        return ROUND_LATENCY.getMean();
+    }
+
+    @Override
+    public long getRoundP99Nanos() {
+        return ROUND_LATENCY.getPercentile(0.99);
+    }
+
+    @Override
+    public double getSessionRoundMeanNanos() {
+        return SESSION_ROUND_LATENCY.getMean();
+    }
+
+    @Override
+    public void reset() {
+
+        RANKED_HANDS.reset();
+        DEALS.reset();
+        ROUNDS.reset();
+
+        for (LongAdder category : CATEGORIES) {
+            category.reset();
+        }
+
+        HAND_LATENCY.reset();
+        DEAL_LATENCY.reset();
+        ROUND_LATENCY.reset();
+        SESSION_ROUND_LATENCY.reset();
+    }
+
+    private static String describe(LatencyHistogram histogram) {
+        return String.format("count=%d mean=%.0f p50=%d p99=%d max=%d", histogram.getCount(), histogram.getMean(),
+                histogram.getPercentile(0.5), histogram.getPercentile(0.99), histogram.getMax());
+    }
+}
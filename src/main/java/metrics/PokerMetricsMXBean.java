@@ -0,0 +1,81 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of PokerMetrics. Durations are in nanoseconds.
+ * @see PokerMetrics
+ */
+public interface PokerMetricsMXBean {
+
+    /**
+     * @return true if metrics are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * @return count of created hands
+     */
+    long getHandsCreated();
+
+    /**
+     * @return count of created hands by PokerHand category
+     */
+    Map<String, Long> getHandCategories();
+
+    /**
+     * @return count of hands ranked at showdowns
+     */
+    long getRankedHands();
+
+    /**
+     * @return count of random card deals of CardDeck
+     */
+    long getRandomDeals();
+
+    /**
+     * @return count of rounds played by GameEngine and GameSession
+     */
+    long getRounds();
+
+    /**
+     * @return latencies of hand construction, random deals, engine rounds and session rounds,
+     * every one with count, mean, p50, p99 and max
+     */
+    Map<String, String> getLatencies();
+
+    /**
+     * @return average duration of hand construction
+     */
+    double getHandMeanNanos();
+
+    /**
+     * @return 99th percentile of hand construction duration
+     */
+    long getHandP99Nanos();
+
+    /**
+     * @return average duration of random deal
+     */
+    double getDealMeanNanos();
+
+    /**
+     * @return average duration of engine round
+     */
+    double getRoundMeanNanos();
+
+    /**
+     * @return 99th percentile of engine round duration
+     */
+    long getRoundP99Nanos();
+
+    /**
+     * @return average duration of session round, waiting for human player included
+     */
+    double getSessionRoundMeanNanos();
+
+    /**
+     * Removes all recorded metrics.
+     */
+    void reset();
+}
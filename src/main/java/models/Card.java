@@ -1,15 +1,33 @@
 package models;
 
+import analyzers.HandEvaluator;
 import enums.Rank;
 import enums.Suit;
 
 /**
  * Class that represents classic card with rank and suit
+ *
+ * All 52 cards are created once and shared by decks and hands. Cards are immutable,
+ * so canonical cards can be taken with Card.of instead of creating new ones.
  */
 public class Card {
 
-    private Suit suit;
-    private Rank rank;
+    private static final Card[] CARDS = new Card[52];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(suit, rank);
+                CARDS[card.getIndex()] = card;
+            }
+        }
+    }
+
+    private final Suit suit;
+    private final Rank rank;
+    private final int index;
+    private final int rankValue;
+    private final int code;
 
     /**
      * Initializes Card with corresponding suit and rank.
@@ -19,6 +37,27 @@ public class Card {
     public Card(Suit suit, Rank rank) {
         this.suit = suit;
         this.rank = rank;
+        this.index = suit.ordinal() * 13 + rank.ordinal();
+        this.rankValue = rank.getValue();
+        this.code = HandEvaluator.encode(rank.ordinal(), suit.ordinal());
+    }
+
+    /**
+     * @param suit suit of a card
+     * @param rank rank of a card
+     * @return canonical card with given suit and rank
+     */
+    public static Card of(Suit suit, Rank rank) {
+        return CARDS[suit.ordinal() * 13 + rank.ordinal()];
+    }
+
+    /**
+     * @param index index of card from 0 to 51
+     * @return canonical card with given index
+     * @see #getIndex()
+     */
+    public static Card of(int index) {
+        return CARDS[index];
     }
 
     /**
@@ -32,7 +71,38 @@ public class Card {
      * @return gets card's rank value
      */
     public int getRankValue() {
-        return rank.getValue();
+        return rankValue;
+    }
+
+    /**
+     * Index of a card in deck order. Cards are ordered by suit and then by rank,
+     * so 2 of HEARTS is 0 and Ace of CLUBS is 51.
+     * @return index of a card from 0 to 51
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return bit of this card's suit
+     */
+    public int getSuitBit() {
+        return 1 << suit.ordinal();
+    }
+
+    /**
+     * @return prime number of card's rank
+     */
+    public int getPrime() {
+        return code & 0xFF;
+    }
+
+    /**
+     * @return card encoded for HandEvaluator
+     * @see analyzers.HandEvaluator
+     */
+    public int getCode() {
+        return code;
     }
 
     /**
@@ -55,4 +125,14 @@ public class Card {
     public Suit getSuit() {
         return suit;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Card && ((Card) o).index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
 }
@@ -0,0 +1,379 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of cards that is stored in bits of a single long. Every card has its own bit
+ * by card index, so 2 of HEARTS is bit 0 and Ace of CLUBS is bit 51.
+ *
+ * CardSet is immutable. Static methods work with plain long values, so code that
+ * deals or enumerates cards can use sets without creating any objects.
+ * @see Card#getIndex()
+ */
+public final class CardSet implements Iterable<Card> {
+
+    /**
+     * Bits of all 52 cards
+     */
+    public static final long FULL_DECK_BITS = (1L << 52) - 1;
+
+    /**
+     * Set without cards
+     */
+    public static final CardSet EMPTY = new CardSet(0L);
+
+    /**
+     * Set of all 52 cards
+     */
+    public static final CardSet FULL_DECK = new CardSet(FULL_DECK_BITS);
+
+    /**
+     * All 24 ways to reorder the 4 suits. Suit at index s is moved to suit SUIT_PERMUTATIONS[p][s].
+     */
+    private static final int[][] SUIT_PERMUTATIONS = new int[24][];
+
+    static {
+        int count = 0;
+
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a != b && a != c && b != c && d != a && d != b && d != c) {
+                        SUIT_PERMUTATIONS[count++] = new int[]{a, b, c, d};
+                    }
+                }
+            }
+        }
+    }
+
+    private final long bits;
+
+    /**
+     * Initializes CardSet from bits of cards.
+     * @param bits bits of cards where bit index is card index
+     */
+    public CardSet(long bits) {
+        this.bits = bits & FULL_DECK_BITS;
+    }
+
+    /**
+     * @param cards cards to add into set
+     * @return set of given cards
+     */
+    public static CardSet of(Card... cards) {
+
+        long bits = 0L;
+
+        for (Card card : cards) {
+            bits |= bit(card.getIndex());
+        }
+        return new CardSet(bits);
+    }
+
+    /**
+     * @param cards list of cards to add into set
+     * @return set of given cards
+     */
+    public static CardSet of(List<Card> cards) {
+        return new CardSet(bitsOf(cards));
+    }
+
+    /**
+     * @param hand hand which cards are added into set
+     * @return set of cards in hand
+     */
+    public static CardSet of(Hand hand) {
+        return of(hand.getCards());
+    }
+
+    /**
+     * @param index index of card from 0 to 51
+     * @return bit of card with given index
+     */
+    public static long bit(int index) {
+        return 1L << index;
+    }
+
+    /**
+     * @param cards list of cards
+     * @return bits of given cards
+     */
+    public static long bitsOf(List<Card> cards) {
+
+        long bits = 0L;
+
+        for (int i = 0; i < cards.size(); i++) {
+            bits |= bit(cards.get(i).getIndex());
+        }
+        return bits;
+    }
+
+    /**
+     * Gets index of lowest card in bits. Used together with removeFirst to iterate over
+     * cards without creating objects:
+     * <pre>
+     *     for (long rest = bits; rest != 0; rest = CardSet.removeFirst(rest)) {
+     *         int index = CardSet.first(rest);
+     *     }
+     * </pre>
+     * @param bits bits of cards
+     * @return index of lowest card or 64 if there are no cards
+     */
+    public static int first(long bits) {
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * @param bits bits of cards
+     * @return bits without lowest card
+     */
+    public static long removeFirst(long bits) {
+        return bits & (bits - 1);
+    }
+
+    /**
+     * Moves cards of every suit to another suit.
+     * @param bits bits of cards
+     * @param permutation new suit for every suit by suit ordinal
+     * @return bits of cards with changed suits
+     */
+    public static long permuteSuits(long bits, int[] permutation) {
+
+        long permuted = 0L;
+
+        for (int suit = 0; suit < 4; suit++) {
+            permuted |= ((bits >>> (13 * suit)) & 0x1FFFL) << (13 * permutation[suit]);
+        }
+        return permuted;
+    }
+
+    /**
+     * Finds suit canonical form of cards. Hands that differ only by naming of suits,
+     * for example flush of hearts and same flush of spades, have same canonical form.
+     * Canonical form is the smallest bits value over all 24 reorderings of suits.
+     * @param bits bits of cards
+     * @return canonical bits of cards
+     */
+    public static long canonical(long bits) {
+        return canonical(bits, 0L)[0];
+    }
+
+    /**
+     * Finds suit canonical form of cards together with other cards, for example dead cards.
+     * Both sets are reordered with same reordering of suits, that gives smallest bits value
+     * for cards and then smallest bits value for other cards.
+     * @param bits bits of cards
+     * @param otherBits bits of other cards
+     * @return array of canonical bits of cards and canonical bits of other cards
+     */
+    public static long[] canonical(long bits, long otherBits) {
+
+        int[] permutation = canonicalPermutation(bits, otherBits);
+        return new long[]{permuteSuits(bits, permutation), permuteSuits(otherBits, permutation)};
+    }
+
+    /**
+     * Finds reordering of suits that turns cards into their suit canonical form.
+     * @see #canonical(long, long)
+     * @param bits bits of cards
+     * @param otherBits bits of other cards
+     * @return new suit for every suit by suit ordinal
+     */
+    public static int[] canonicalPermutation(long bits, long otherBits) {
+
+        long best = Long.MAX_VALUE;
+        long bestOther = Long.MAX_VALUE;
+        int[] bestPermutation = null;
+
+        for (int[] permutation : SUIT_PERMUTATIONS) {
+
+            long permuted = permuteSuits(bits, permutation);
+
+            if (permuted > best) {
+                continue;
+            }
+
+            long permutedOther = permuteSuits(otherBits, permutation);
+
+            if (permuted < best || permutedOther < bestOther) {
+                best = permuted;
+                bestOther = permutedOther;
+                bestPermutation = permutation;
+            }
+        }
+        return bestPermutation.clone();
+    }
+
+    /**
+     * @param permutation new suit for every suit by suit ordinal
+     * @return permutation that moves suits back to where they were
+     */
+    public static int[] inverse(int[] permutation) {
+
+        int[] inverse = new int[permutation.length];
+
+        for (int suit = 0; suit < permutation.length; suit++) {
+            inverse[permutation[suit]] = suit;
+        }
+        return inverse;
+    }
+
+    /**
+     * Gets canonical card by card index.
+     * @param index index of card from 0 to 51
+     * @return card with given index
+     */
+    public static Card toCard(int index) {
+        return Card.of(index);
+    }
+
+    /**
+     * @return bits of cards in this set
+     */
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * @param other another set of cards
+     * @return set with cards of both sets
+     */
+    public CardSet union(CardSet other) {
+        return new CardSet(bits | other.bits);
+    }
+
+    /**
+     * @param other another set of cards
+     * @return set with cards that are in both sets
+     */
+    public CardSet intersect(CardSet other) {
+        return new CardSet(bits & other.bits);
+    }
+
+    /**
+     * @param other another set of cards
+     * @return set with cards of this set that are not in other set
+     */
+    public CardSet minus(CardSet other) {
+        return new CardSet(bits & ~other.bits);
+    }
+
+    /**
+     * @param card card to add
+     * @return set with cards of this set and given card
+     */
+    public CardSet with(Card card) {
+        return new CardSet(bits | bit(card.getIndex()));
+    }
+
+    /**
+     * @param card card to look for
+     * @return is card in this set
+     */
+    public boolean contains(Card card) {
+        return contains(card.getIndex());
+    }
+
+    /**
+     * @param index index of card from 0 to 51
+     * @return is card with given index in this set
+     */
+    public boolean contains(int index) {
+        return (bits & bit(index)) != 0;
+    }
+
+    /**
+     * @return count of cards in this set
+     */
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    /**
+     * @return is this set without cards
+     */
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    /**
+     * @return list of cards in this set in deck order
+     */
+    public List<Card> toCards() {
+
+        List<Card> cards = new ArrayList<>(size());
+
+        for (Card card : this) {
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    /**
+     * @return Hand object with cards of this set
+     */
+    public Hand toHand() {
+        return new Hand(toCards());
+    }
+
+    /**
+     * @return iterator over cards of this set in deck order
+     */
+    @Override
+    public Iterator<Card> iterator() {
+
+        return new Iterator<Card>() {
+
+            private long rest = bits;
+
+            @Override
+            public boolean hasNext() {
+                return rest != 0L;
+            }
+
+            @Override
+            public Card next() {
+
+                if (rest == 0L) {
+                    throw new NoSuchElementException();
+                }
+
+                Card card = toCard(first(rest));
+                rest = removeFirst(rest);
+                return card;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CardSet && ((CardSet) o).bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    /**
+     * Writes cards one by one and seperates them with ", ";
+     * @return String of cards in set
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (Card card : this) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(card.getToken());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package models;
+
+import enums.PokerHand;
+
+/**
+ * Model of exhaustive hand enumeration result. Holds count of hands in every
+ * PokerHand category, count of distinct hand strengths and time spent on enumeration.
+ * @see analyzers.HandEnumeration
+ */
+public class EnumerationResult {
+
+    private final long[] counts = new long[PokerHand.values().length];
+    private int distinctStrengths;
+    private long elapsedNanos;
+
+    /**
+     * @param pokerHand PokerHand category
+     * @return count of hands in given category
+     */
+    public long getCount(PokerHand pokerHand) {
+        return counts[pokerHand.ordinal()];
+    }
+
+    /**
+     * @param pokerHand PokerHand category
+     * @param count count of hands in given category
+     */
+    public void setCount(PokerHand pokerHand, long count) {
+        counts[pokerHand.ordinal()] = count;
+    }
+
+    /**
+     * @return count of all enumerated hands
+     */
+    public long getHandCount() {
+
+        long handCount = 0;
+
+        for (long count : counts) {
+            handCount += count;
+        }
+        return handCount;
+    }
+
+    /**
+     * @return count of different strengths that enumerated hands had
+     */
+    public int getDistinctStrengths() {
+        return distinctStrengths;
+    }
+
+    /**
+     * @param distinctStrengths count of different strengths that enumerated hands had
+     */
+    public void setDistinctStrengths(int distinctStrengths) {
+        this.distinctStrengths = distinctStrengths;
+    }
+
+    /**
+     * @return time spent on enumeration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @param elapsedNanos time spent on enumeration in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return count of hands evaluated per second
+     */
+    public double getHandsPerSecond() {
+
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return getHandCount() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Writes count of every PokerHand category on separate line followed by totals and throughput.
+     * @return String report of enumeration
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (PokerHand pokerHand : PokerHand.values()) {
+            sb.append(String.format("%-16s %,12d%n", pokerHand.getValue(), getCount(pokerHand)));
+        }
+
+        sb.append(String.format("%-16s %,12d%n", "Total", getHandCount()));
+        sb.append(String.format("%-16s %,12d%n", "Strengths", distinctStrengths));
+        sb.append(String.format("%-16s %,12.1f ms%n", "Elapsed", elapsedNanos / 1e6));
+        sb.append(String.format("%-16s %,12.0f hands/s", "Throughput", getHandsPerSecond()));
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package models;
+
+/**
+ * Model of equity calculation result. Holds count of won, tied and lost deals
+ * against opponents and share of pot that hand got over all deals.
+ * @see analyzers.EquityCalculator
+ */
+public class EquityResult {
+
+    private long wins;
+    private long ties;
+    private long losses;
+    private double potShare;
+    private double potShareSquares;
+
+    /**
+     * Adds counts of another result to this result.
+     * @param other result to add
+     */
+    public void add(EquityResult other) {
+        wins += other.wins;
+        ties += other.ties;
+        losses += other.losses;
+        potShare += other.potShare;
+        potShareSquares += other.potShareSquares;
+    }
+
+    /**
+     * Adds one won deal.
+     */
+    public void addWin() {
+        wins++;
+        potShare += 1;
+        potShareSquares += 1;
+    }
+
+    /**
+     * Adds one tied deal.
+     * @param share share of pot that hand got, for example 0.5 if two hands were tied
+     */
+    public void addTie(double share) {
+        ties++;
+        potShare += share;
+        potShareSquares += share * share;
+    }
+
+    /**
+     * Adds one lost deal.
+     */
+    public void addLoss() {
+        losses++;
+    }
+
+    /**
+     * Adds many deals at once where every tied deal gives same share of pot.
+     * @param wins count of won deals
+     * @param ties count of tied deals
+     * @param losses count of lost deals
+     * @param tieShare share of pot of every tied deal
+     */
+    public void add(long wins, long ties, long losses, double tieShare) {
+        this.wins += wins;
+        this.ties += ties;
+        this.losses += losses;
+        this.potShare += wins + ties * tieShare;
+        this.potShareSquares += wins + ties * tieShare * tieShare;
+    }
+
+    /**
+     * @return count of won deals
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * @return count of tied deals
+     */
+    public long getTies() {
+        return ties;
+    }
+
+    /**
+     * @return count of lost deals
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * @return count of all deals
+     */
+    public long getSamples() {
+        return wins + ties + losses;
+    }
+
+    /**
+     * @return probability to win
+     */
+    public double getWinProbability() {
+        return getSamples() == 0 ? 0 : (double) wins / getSamples();
+    }
+
+    /**
+     * @return probability to tie
+     */
+    public double getTieProbability() {
+        return getSamples() == 0 ? 0 : (double) ties / getSamples();
+    }
+
+    /**
+     * @return probability to lose
+     */
+    public double getLossProbability() {
+        return getSamples() == 0 ? 0 : (double) losses / getSamples();
+    }
+
+    /**
+     * @return average share of pot that hand gets. Won deal gives whole pot and tied deal
+     * gives pot divided by count of tied hands.
+     */
+    public double getEquity() {
+        return getSamples() == 0 ? 0 : potShare / getSamples();
+    }
+
+    /**
+     * @return standard error of equity
+     */
+    public double getStandardError() {
+
+        long samples = getSamples();
+
+        if (samples < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double equity = getEquity();
+        double variance = Math.max(0, potShareSquares / samples - equity * equity);
+
+        return Math.sqrt(variance / (samples - 1));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("win %.4f, tie %.4f, loss %.4f, equity %.4f (%d samples)",
+                getWinProbability(), getTieProbability(), getLossProbability(), getEquity(), getSamples());
+    }
+}
@@ -1,21 +1,36 @@
 package models;
 
+import analyzers.HandEvaluator;
 import analyzers.PokerHandAnalyzer;
 import enums.PokerHand;
 import exceptions.WrongHandException;
+import exceptions.WrongNumberOfCardsException;
+import metrics.PokerMetrics;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Hand class model is representing players hand. Hand consists of list of cards.
  * This class can be compared to other Hand objects and it evaluates cards PokerHand
+ *
+ * Hands are compared only by strength that is evaluated once on construction, so comparing
+ * does not allocate or throw. Constructor does not check cards, hand that is not 5 different cards
+ * has strength 0 and is weaker than any real hand. Cards that come from outside of the game can be
+ * checked once with validated.
  */
-public class Hand {
+public class Hand implements Comparable<Hand> {
+
+    /**
+     * Compares hands by strength, weaker hand first
+     */
+    public static final Comparator<Hand> BY_STRENGTH = (hand1, hand2) -> Integer.compare(hand1.strength, hand2.strength);
 
     PokerHand pokerHand;
     List<Card> cards;
     MatchData md;
+    int strength;
 
     /**
      * Initializes Hand object with list of cards. Automatically checks
@@ -23,8 +38,41 @@ public class Hand {
      * @param cards list of Cards.
      */
     public Hand(List<Card> cards) {
+
+        long start = PokerMetrics.startSample();
+
         this.cards = cards;
-        getPokerHand();
+        evaluate();
+
+        PokerMetrics.handCreated(pokerHand, start);
+    }
+
+    /**
+     * Initializes Hand object and checks that it is a real hand: 5 different cards
+     * which PokerHand and ranking list of PokerHandAnalyzer agree with strength.
+     * @param cards list of Cards
+     * @return hand of given cards
+     * @throws WrongNumberOfCardsException if there are not 5 cards
+     * @throws WrongHandException if same card is in hand twice or ranking data does not match
+     */
+    public static Hand validated(List<Card> cards) throws WrongNumberOfCardsException, WrongHandException {
+
+        if (cards == null || cards.size() != 5) {
+            throw new WrongNumberOfCardsException("Hand has to consist of 5 cards!");
+        }
+
+        if (cards.contains(null) || Long.bitCount(CardSet.bitsOf(cards)) != 5) {
+            throw new WrongHandException("Hand has to consist of 5 different cards: " + cards);
+        }
+
+        Hand hand = new Hand(cards);
+        MatchData md = hand.getMatchData();
+
+        if (hand.pokerHand == null || md.getMatch() != hand.pokerHand || md.getRankingList().isEmpty()) {
+            throw new WrongHandException("Ranking data of hand does not match its strength: " + hand);
+        }
+
+        return hand;
     }
 
     /**
@@ -40,135 +88,56 @@ public class Hand {
      * If value is -1 then this hand is weaker than compared hand.
      * If this value is 0 this hand is tied with compared hand.
      *
+     * Hands are compared by their strength that already holds PokerHand category
+     * and rankings of all the cards.
+     *
+     * @see analyzers.HandEvaluator
      * @param hand hanb object that consists of list of cards
      * @return result of comparing
      */
+    @Override
     public int compareTo(Hand hand) {
-
-        if (this.getHandValue() > hand.getHandValue()) {
-            return 1;
-        }
-        else if (this.getHandValue() < hand.getHandValue()) {
-            return -1;
-        }
-        else {
-            //PokerHand rankings are same. Check cards rankings
-            return compareTie(hand);
-        }
-
+        return Integer.compare(strength, hand.strength);
     }
 
     /**
-     * Compares tied PokerHands by rankings in Ranking list. RankingList
-     * is formed by PokerHandAnalzyer.
-     *
-     * If value is 1 then this hand is stronger than compared hand.
-     * If value is -1 then this hand is weaker than compared hand.
-     * If this value is 0 this hand is tied with compared hand.
-     *
-     * This class makes sure that rankingLists are with same count of items
-     * in it. If number is not same then it throws WrongHandException that
-     * states that something went wrong with ranking process.
-     *
-     * @see analyzers.PokerHandAnalyzer
-     * @param hand Hand object that consists of list of cards
-     * @return result of comparing
+     * @return PokerHand of this hand or null if hand is not 5 cards
      */
-    private int compareTie(Hand hand){
-
-        //Gets both ranking list
-       List<Integer> rankingList1 = this.getMatchData().getRankingList();
-       List<Integer> rankingList2 = hand.getMatchData().getRankingList();
-
-        try {
-
-            if (rankingList1.size() != rankingList2.size()) {
-                throw new WrongHandException("Something went wrong with cards!");
-            }
-
-            for (int i = 0; i < rankingList1.size(); i++) {
-
-                if (rankingList1.get(i) > rankingList2.get(i)) {
-                    return 1;
-                }
-                else if (rankingList1.get(i) < rankingList2.get(i)) {
-                    return -1;
-                }
-            }
-        }
-        catch (WrongHandException ex) {
-            System.out.println(ex.getMessage());
-        }
-
-        return 0;
+    public PokerHand getPokerHand() {
+        return pokerHand;
     }
 
     /**
-     * Takes this object and compares every possible pokerHand match in descending order.
-     * If result is matches sets pokerHand and gets corresponding matchdata
+     * @return strength of this hand from 1 to 7462 or 0 if hand is not 5 different cards
+     * @see analyzers.HandEvaluator
      */
-    private void getPokerHand() {
-        for (PokerHand potential : PokerHand.values()) {
-            if (potential.matches(this)) {
-                pokerHand = potential;
-                md = getMatchData();
-                break;
-            }
-        }
+    public int getStrength() {
+        return strength;
     }
 
     /**
-     * Requires pokerHand property to be set first. If pokerHand propery
-     * is not set first then returns 0 as value.
-     * @return pokerHand's rank
+     * Evaluates strength of this object with HandEvaluator and takes pokerHand
+     * from strength category. Matchdata is not built here, it is built on first
+     * getMatchData call.
      */
-    private int getHandValue() {
-        if (pokerHand == null) {
-            return 0;
-        }
-        return pokerHand.getRank();
+    private void evaluate() {
+
+        strength = HandEvaluator.evaluate(cards);
+        pokerHand = HandEvaluator.getPokerHand(strength);
     }
 
     /**
-     * Checks pokerHand and uses corresponding analyzer with it.
-     * Return MatchData object with cards rankingList.
-     * Also sets property value of match in MatchList to corresponding PokerHand
+     * Uses PokerHandAnalyzer to count cards once and pick PokerHand and rankingList from
+     * the counts. Return MatchData object with cards rankingList and matched PokerHand.
+     *
+     * MatchData is built only once on first call and same object is returned afterwards.
      * @return MatchData with a rankingList
      */
     public MatchData getMatchData() {
 
-        if (pokerHand == PokerHand.ROYAL_FLUSH) {
-            md = PokerHandAnalyzer.getRoyalFlushMatchData(this);
-        }
-        else if (pokerHand == PokerHand.STRAIGHT_FLUSH) {
-            md = PokerHandAnalyzer.getStraightFlushMatchData(this);
-        }
-        else if (pokerHand == PokerHand.FOUR_OF_A_KIND) {
-            md = PokerHandAnalyzer.getFourOfAKindMatchData(this);
-        }
-        else if (pokerHand == PokerHand.FULL_HOUSE) {
-            md = PokerHandAnalyzer.getFullHouseMatchData(this);
-        }
-        else if (pokerHand == PokerHand.FLUSH) {
-            md = PokerHandAnalyzer.getFlushMatchData(this);
+        if (md == null) {
+            md = PokerHandAnalyzer.getMatchData(this);
         }
-        else if (pokerHand == PokerHand.STRAIGHT) {
-            md = PokerHandAnalyzer.getStraightMatchData(this);
-        }
-        else if (pokerHand == PokerHand.THREE_OF_A_KIND) {
-            md = PokerHandAnalyzer.getThreeOfAKindMatchData(this);
-        }
-        else if (pokerHand == PokerHand.TWO_PAIRS) {
-            md = PokerHandAnalyzer.getTwoPairsMatchData(this);
-        }
-        else if (pokerHand == PokerHand.ONE_PAIR) {
-            md = PokerHandAnalyzer.getOnePairMatchData(this);
-        }
-        else {
-            md = PokerHandAnalyzer.getHighCardMatchData(this);
-        }
-
-        md.setMatch(pokerHand);
         return md;
     }
 
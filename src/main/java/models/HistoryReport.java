@@ -0,0 +1,245 @@
+package models;
+
+import enums.PokerHand;
+
+/**
+ * Model of hand history aggregates. Holds rounds played and won by every player, counts of
+ * hands shown and won by PokerHand category and distribution of pool sizes.
+ * @see history.HandHistoryReader
+ */
+public class HistoryReport {
+
+    /**
+     * Biggest player id in report
+     */
+    public static final int MAX_PLAYERS = 10;
+
+    /**
+     * Pools of this size or bigger are counted in same bucket
+     */
+    public static final int POOL_LIMIT = 1024;
+
+    private final long[] playerRounds = new long[MAX_PLAYERS + 1];
+    private final long[] playerWins = new long[MAX_PLAYERS + 1];
+    private final long[] shown = new long[PokerHand.values().length];
+    private final long[] won = new long[PokerHand.values().length];
+    private final long[] pools = new long[POOL_LIMIT + 1];
+    private long rounds;
+    private long skipped;
+    private long chips;
+    private int maxPool;
+    private long elapsedNanos;
+
+    /**
+     * Adds one round.
+     * @param pool chips pool of round
+     */
+    public void addRound(int pool) {
+
+        rounds++;
+        chips += pool;
+        pools[Math.min(pool, POOL_LIMIT)]++;
+        maxPool = Math.max(maxPool, pool);
+    }
+
+    /**
+     * Adds hand that was shown in a round.
+     * @param playerId id of player from 1 to 10
+     * @param pokerHand PokerHand of shown hand
+     * @param winner true if hand won or split the pool
+     */
+    public void addHand(int playerId, PokerHand pokerHand, boolean winner) {
+
+        playerRounds[playerId]++;
+        shown[pokerHand.ordinal()]++;
+
+        if (winner) {
+            playerWins[playerId]++;
+            won[pokerHand.ordinal()]++;
+        }
+    }
+
+    /**
+     * Counts one record that was not added because its values are out of range.
+     */
+    public void addSkipped() {
+        skipped++;
+    }
+
+    /**
+     * Adds rounds of other report to this report.
+     * @param other report to add
+     */
+    public void add(HistoryReport other) {
+
+        for (int i = 0; i < playerRounds.length; i++) {
+            playerRounds[i] += other.playerRounds[i];
+            playerWins[i] += other.playerWins[i];
+        }
+        for (int i = 0; i < shown.length; i++) {
+            shown[i] += other.shown[i];
+            won[i] += other.won[i];
+        }
+        for (int i = 0; i < pools.length; i++) {
+            pools[i] += other.pools[i];
+        }
+        rounds += other.rounds;
+        skipped += other.skipped;
+        chips += other.chips;
+        maxPool = Math.max(maxPool, other.maxPool);
+    }
+
+    /**
+     * @return count of rounds in report
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return count of records that were skipped because their values are out of range
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @param playerId id of player from 1 to 10
+     * @return count of rounds that player played
+     */
+    public long getRounds(int playerId) {
+        return playerRounds[playerId];
+    }
+
+    /**
+     * @param playerId id of player from 1 to 10
+     * @return count of rounds that player won or split
+     */
+    public long getWins(int playerId) {
+        return playerWins[playerId];
+    }
+
+    /**
+     * @param playerId id of player from 1 to 10
+     * @return share of played rounds that player won or split
+     */
+    public double getWinRate(int playerId) {
+
+        if (playerRounds[playerId] == 0) {
+            return 0;
+        }
+        return (double) playerWins[playerId] / playerRounds[playerId];
+    }
+
+    /**
+     * @param pokerHand category of hand
+     * @return count of shown hands of given category
+     */
+    public long getShown(PokerHand pokerHand) {
+        return shown[pokerHand.ordinal()];
+    }
+
+    /**
+     * @param pokerHand category of hand
+     * @return count of shown hands of given category that won or split the pool
+     */
+    public long getWon(PokerHand pokerHand) {
+        return won[pokerHand.ordinal()];
+    }
+
+    /**
+     * @param pool size of pool, sizes from POOL_LIMIT are counted together
+     * @return count of rounds with given pool size
+     */
+    public long getPoolCount(int pool) {
+        return pools[Math.min(pool, POOL_LIMIT)];
+    }
+
+    /**
+     * @return average pool size
+     */
+    public double getAveragePool() {
+
+        if (rounds == 0) {
+            return 0;
+        }
+        return (double) chips / rounds;
+    }
+
+    /**
+     * @param share share of rounds from 0 to 1
+     * @return smallest pool size that given share of rounds does not exceed
+     */
+    public int getPoolPercentile(double share) {
+
+        long count = (long) Math.ceil(share * rounds);
+        long seen = 0;
+
+        for (int pool = 0; pool < POOL_LIMIT; pool++) {
+            seen += pools[pool];
+
+            if (seen >= count && seen > 0) {
+                return pool;
+            }
+        }
+        return maxPool;
+    }
+
+    /**
+     * @return biggest pool size
+     */
+    public int getMaxPool() {
+        return maxPool;
+    }
+
+    /**
+     * @return time spent on reading history in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @param elapsedNanos time spent on reading history in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Writes win rates of players, shown and won hands of every category and pool sizes
+     * on separate lines followed by throughput.
+     * @return String report of history
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int playerId = 1; playerId <= MAX_PLAYERS; playerId++) {
+            if (playerRounds[playerId] > 0) {
+                sb.append(String.format("%-16s %,12d %6.2f%%%n", "Player " + playerId, playerWins[playerId],
+                        getWinRate(playerId) * 100));
+            }
+        }
+
+        for (PokerHand pokerHand : PokerHand.values()) {
+            sb.append(String.format("%-16s %,12d %,12d%n", pokerHand.getValue(), getShown(pokerHand), getWon(pokerHand)));
+        }
+
+        sb.append(String.format("%-16s %,12d%n", "Rounds", rounds));
+
+        if (skipped > 0) {
+            sb.append(String.format("%-16s %,12d%n", "Skipped records", skipped));
+        }
+
+        sb.append(String.format("%-16s %,12.1f%n", "Average pool", getAveragePool()));
+        sb.append(String.format("%-16s %,12d%n", "Median pool", getPoolPercentile(0.5)));
+        sb.append(String.format("%-16s %,12d%n", "90% pool", getPoolPercentile(0.9)));
+        sb.append(String.format("%-16s %,12d%n", "Max pool", maxPool));
+        sb.append(String.format("%-16s %,12.1f ms%n", "Elapsed", elapsedNanos / 1e6));
+        sb.append(String.format("%-16s %,12.0f rounds/s", "Throughput", elapsedNanos == 0 ? 0 : rounds * 1e9 / elapsedNanos));
+
+        return sb.toString();
+    }
+}
@@ -6,13 +6,16 @@ import java.util.List;
 
 /**
  * Model of Matched Data of PokerHandAnalzyer that has info of matches
- * PokerHand rank and list of ranks in descending order.
+ * PokerHand rank, list of ranks in descending order and score of the hand.
+ * Score holds PokerHand category and all rankings in one integer, so hands
+ * can be compared, sorted or bucketed by score only.
  * @see analyzers.PokerHandAnalyzer
  */
 public class MatchData {
 
     private List<Integer> rankingList;
     private PokerHand match;
+    private int score;
 
     /**
      * @return rankingList of integers in descending order.
@@ -42,4 +45,19 @@ public class MatchData {
     public void setMatch(PokerHand match) {
         this.match = match;
     }
+
+    /**
+     * @return score of hand from 1 to 7462. Stronger hand has bigger score.
+     * @see analyzers.HandEvaluator
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @param score sets score of hand
+     */
+    public void setScore(int score) {
+        this.score = score;
+    }
 }
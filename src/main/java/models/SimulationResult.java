@@ -0,0 +1,154 @@
+package models;
+
+/**
+ * Model of game simulation result. Holds count of won games of every seat, count of
+ * games that were stopped without a winner, count of played rounds and time spent
+ * on simulation.
+ * @see engine.Simulation
+ */
+public class SimulationResult {
+
+    private final long[] wins;
+    private long unfinished;
+    private long rounds;
+    private long elapsedNanos;
+
+    /**
+     * @param seats count of players in simulated games
+     */
+    public SimulationResult(int seats) {
+        this.wins = new long[seats];
+    }
+
+    /**
+     * Adds result of one game.
+     * @param winner player who won the game or null if game has no winner
+     * @param rounds count of rounds played in the game
+     */
+    public void addGame(Player winner, int rounds) {
+
+        if (winner == null) {
+            unfinished++;
+        }
+        else {
+            wins[winner.getId() - 1]++;
+        }
+        this.rounds += rounds;
+    }
+
+    /**
+     * Adds games of other result to this result.
+     * @param other result with same count of seats
+     */
+    public void add(SimulationResult other) {
+
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        unfinished += other.unfinished;
+        rounds += other.rounds;
+    }
+
+    /**
+     * @return count of players in simulated games
+     */
+    public int getSeats() {
+        return wins.length;
+    }
+
+    /**
+     * @param seat seat of player starting from 1, same as id of player
+     * @return count of games that player of given seat won
+     */
+    public long getWins(int seat) {
+        return wins[seat - 1];
+    }
+
+    /**
+     * @param seat seat of player starting from 1, same as id of player
+     * @return share of games that player of given seat won
+     */
+    public double getWinRate(int seat) {
+
+        long games = getGames();
+
+        if (games == 0) {
+            return 0;
+        }
+        return (double) getWins(seat) / games;
+    }
+
+    /**
+     * @return count of games that were stopped without a winner
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * @return count of all simulated games
+     */
+    public long getGames() {
+
+        long games = unfinished;
+
+        for (long win : wins) {
+            games += win;
+        }
+        return games;
+    }
+
+    /**
+     * @return count of rounds played in all games
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return time spent on simulation in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @param elapsedNanos time spent on simulation in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return count of games simulated per second
+     */
+    public double getGamesPerSecond() {
+
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return getGames() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Writes wins of every seat on separate line followed by totals and throughput.
+     * @return String report of simulation
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int seat = 1; seat <= wins.length; seat++) {
+            sb.append(String.format("%-16s %,12d %6.2f%%%n", "Player " + seat, getWins(seat), getWinRate(seat) * 100));
+        }
+
+        sb.append(String.format("%-16s %,12d%n", "Unfinished", unfinished));
+        sb.append(String.format("%-16s %,12d%n", "Games", getGames()));
+        sb.append(String.format("%-16s %,12d%n", "Rounds", rounds));
+        sb.append(String.format("%-16s %,12.1f ms%n", "Elapsed", elapsedNanos / 1e6));
+        sb.append(String.format("%-16s %,12.0f games/s", "Throughput", getGamesPerSecond()));
+
+        return sb.toString();
+    }
+}
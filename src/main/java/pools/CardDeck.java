@@ -1,24 +1,44 @@
 package pools;
 
-import enums.Rank;
-import enums.Suit;
+import metrics.PokerMetrics;
 import models.Card;
+import models.CardSet;
 
 import java.util.*;
 
 /**
- * This class represents carddeck that consists of classical cards. Generates
- * them initialization and when cards are dealed then removes cards from list
- * so no one can use them again
+ * This class represents carddeck that consists of classical cards. Cards are kept
+ * in a fixed array and when cards are dealed then they are swapped behind the
+ * remaining cards so no one can use them again.
+ *
+ * Random cards are picked by partial Fisher-Yates shuffle, so every dealt card takes
+ * constant time. Deck uses random generator that is given on initialization, so
+ * dealing can be repeated by giving generator with same seed.
+ *
+ * Deck is not thread safe, so every table or worker has its own deck. Cards in deck
+ * are immutable and shared by all decks.
  */
 public class CardDeck {
 
-    private List<Card> cardList = new ArrayList<>();
+    private final Card[] cards = new Card[52];
+    private final Random random;
+    private int remaining;
 
     /**
      * Initializes card deck by creating cards into this deck.
      */
     public CardDeck() {
+        this(new Random());
+    }
+
+    /**
+     * Initializes card deck that uses given random generator for dealing cards.
+     * For example seeded Random for repeatable deals or ThreadLocalRandom if
+     * deck is used only by one thread.
+     * @param random random generator for picking cards
+     */
+    public CardDeck(Random random) {
+        this.random = random;
         createDeck();
     }
 
@@ -34,49 +54,211 @@ public class CardDeck {
      */
     public List<Card> getRandomCards(int cardCount) {
 
-        if (cardCount > cardList.size()) {
+        if (cardCount > remaining) {
             return null;
         }
 
-        List<Card> randomCardsList = new ArrayList<>();
-        Random randomGenerator = new Random();
+        long start = PokerMetrics.startSample();
+        List<Card> randomCardsList = new ArrayList<>(Math.max(cardCount, 0));
 
         for (int i = 0; i < cardCount; i++) {
-            int index = randomGenerator.nextInt(cardList.size());
-            randomCardsList.add(cardList.get(index));
-            cardList.remove(cardList.get(index));
+            randomCardsList.add(getRandomCard());
         }
 
+        PokerMetrics.cardsDealt(start);
         return randomCardsList;
     }
 
     /**
-     * Resets deck to initial form
+     * Retreieves set of randomly selected cards and removes them from possible card list.
+     *
+     * Checks if asked number of cards is bigger than all cards in deck. If so
+     * then returns null
+     *
+     * @param cardCount asked number of cards
+     * @return set of randomly selected cards with count of cardCount
      */
-    public void resetDeck() {
-        clearDeck();
+    public CardSet getRandomCardSet(int cardCount) {
+
+        if (cardCount > remaining) {
+            return null;
+        }
+
+        return new CardSet(getRandomBits(cardCount));
     }
 
     /**
-     * Creates new deck card by card. Takes all possible suits in Suit Enum
-     * and takes all possible ranks and loops them over. Adds cards to list one by one.
+     * Retreieves bits of randomly selected cards and removes them from possible card list.
+     *
+     * Returns 0 if asked number of cards is bigger than all cards in deck.
+     *
+     * @param cardCount asked number of cards
+     * @return bits of randomly selected cards with count of cardCount
+     * @see CardSet
      */
-    private void createDeck() {
-        for (Suit suit: Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cardList.add(new Card(suit, rank));
+    public long getRandomBits(int cardCount) {
+
+        if (cardCount > remaining) {
+            return 0L;
+        }
+
+        long start = PokerMetrics.startSample();
+        long bits = 0L;
+
+        for (int i = 0; i < cardCount; i++) {
+            bits |= CardSet.bit(getRandomCard().getIndex());
+        }
+
+        PokerMetrics.cardsDealt(start);
+        return bits;
+    }
+
+    /**
+     * Picks random card from remaining cards and swaps it behind the remaining cards.
+     *
+     * Returns null if deck is empty.
+     *
+     * @return randomly selected card
+     */
+    public Card getRandomCard() {
+
+        if (remaining == 0) {
+            return null;
+        }
+
+        swap(random.nextInt(remaining), remaining - 1);
+        return cards[--remaining];
+    }
+
+    /**
+     * Shuffles remaining cards with Fisher-Yates shuffle. After shuffling cards can
+     * be dealt from top of the deck with deal.
+     */
+    public void shuffle() {
+        for (int i = remaining - 1; i > 0; i--) {
+            swap(random.nextInt(i + 1), i);
+        }
+    }
+
+    /**
+     * Deals card from top of the deck. Does not pick card randomly, so deck
+     * should be shuffled first.
+     *
+     * Returns null if deck is empty.
+     *
+     * @return card from top of the deck
+     */
+    public Card deal() {
+
+        if (remaining == 0) {
+            return null;
+        }
+
+        return cards[--remaining];
+    }
+
+    /**
+     * Deals cards from top of the deck. Does not pick cards randomly, so deck
+     * should be shuffled first.
+     *
+     * Checks if asked number of cards is bigger than all cards in deck. If so
+     * then returns null
+     *
+     * @param cardCount asked number of cards
+     * @return list of cards from top of the deck
+     */
+    public List<Card> deal(int cardCount) {
+
+        if (cardCount > remaining) {
+            return null;
+        }
+
+        List<Card> dealtCards = new ArrayList<>(cardCount);
+
+        for (int i = 0; i < cardCount; i++) {
+            dealtCards.add(cards[--remaining]);
+        }
+
+        return dealtCards;
+    }
+
+    /**
+     * Removes dead cards from deck, so they can not be dealt until deck is reset.
+     * @param deadCards set of cards to remove
+     */
+    public void removeCards(CardSet deadCards) {
+
+        int i = 0;
+
+        while (i < remaining) {
+            if (deadCards.contains(cards[i])) {
+                swap(i, --remaining);
+            }
+            else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns dealt cards back to deck, so they can be dealt again. Cards that are
+     * already in deck are ignored.
+     * @param returnedCards set of cards to return
+     */
+    public void returnCards(CardSet returnedCards) {
+
+        for (int i = remaining; i < cards.length; i++) {
+            if (returnedCards.contains(cards[i])) {
+                swap(i, remaining++);
             }
         }
     }
 
     /**
-     * Empties out deck and forms another one
+     * @return set of cards that are still in deck
      */
-    private void clearDeck() {
+    public CardSet getRemainingCards() {
+
+        long bits = 0L;
+
+        for (int i = 0; i < remaining; i++) {
+            bits |= CardSet.bit(cards[i].getIndex());
+        }
+
+        return new CardSet(bits);
+    }
+
+    /**
+     * @return count of cards that are still in deck
+     */
+    public int getRemainingCount() {
+        return remaining;
+    }
 
-        cardList.clear();
+    /**
+     * Resets deck to initial form
+     */
+    public void resetDeck() {
         createDeck();
     }
 
+    /**
+     * Fills deck with shared canonical cards in deck order, so no new cards are created.
+     * Also makes all cards available for dealing again.
+     */
+    private void createDeck() {
 
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.of(i);
+        }
+
+        remaining = cards.length;
+    }
+
+    private void swap(int i, int j) {
+
+        Card card = cards[i];
+        cards[i] = cards[j];
+        cards[j] = card;
+    }
 }
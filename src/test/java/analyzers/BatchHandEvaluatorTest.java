@@ -0,0 +1,40 @@
+package analyzers;
+
+import junit.framework.TestCase;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.Random;
+
+public class BatchHandEvaluatorTest extends TestCase {
+
+    @Test
+    public void testEvaluate() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(7));
+        long[] hands = new long[100000];
+
+        for (int i = 0; i < hands.length; i++) {
+            deck.resetDeck();
+            hands[i] = deck.getRandomBits(5);
+        }
+
+        int[] strengths = new int[hands.length];
+        BatchHandEvaluator.evaluate(hands, strengths);
+
+        for (int i = 0; i < hands.length; i++) {
+            assertEquals(HandEvaluator.evaluate(hands[i]), strengths[i]);
+        }
+    }
+
+    @Test
+    public void testShortStrengthsArray() throws Exception {
+        try {
+            BatchHandEvaluator.evaluate(new long[2], new int[1]);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertNotNull(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package analyzers;
+
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
+import models.Hand;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DrawSolverTest extends TestCase {
+
+    @Test
+    public void testKeepStraightFlush() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.NINE));
+                add(Card.of(Suit.HEARTS, Rank.EIGHT));
+                add(Card.of(Suit.HEARTS, Rank.SEVEN));
+                add(Card.of(Suit.HEARTS, Rank.SIX));
+                add(Card.of(Suit.HEARTS, Rank.FIVE));
+            }
+        };
+
+        Hand hand = new Hand(cards);
+        double[] expected = DrawSolver.expectedStrengths(CardSet.bitsOf(cards));
+
+        assertEquals(DrawSolver.OPTIONS, expected.length);
+        assertEquals(hand.getStrength(), expected[0], 0.0);
+        assertTrue(DrawSolver.bestDiscard(hand).isEmpty());
+    }
+
+    @Test
+    public void testKeepPair() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.CLUBS, Rank.SEVEN));
+                add(Card.of(Suit.DIAMONDS, Rank.FOUR));
+                add(Card.of(Suit.HEARTS, Rank.TWO));
+            }
+        };
+
+        List<Card> discard = DrawSolver.bestDiscard(new Hand(cards));
+
+        assertEquals(3, discard.size());
+        assertFalse(discard.contains(Card.of(Suit.HEARTS, Rank.ACE)));
+        assertFalse(discard.contains(Card.of(Suit.SPADES, Rank.ACE)));
+    }
+
+    @Test
+    public void testHeuristic() throws Exception {
+
+        List<Card> flush = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.CLUBS, Rank.QUEEN));
+                add(Card.of(Suit.CLUBS, Rank.FIVE));
+                add(Card.of(Suit.CLUBS, Rank.THREE));
+                add(Card.of(Suit.SPADES, Rank.NINE));
+            }
+        };
+
+        List<Card> discard = DrawSolver.bestDiscard(new Hand(flush));
+
+        assertEquals(1, discard.size());
+        assertEquals(Card.of(Suit.SPADES, Rank.NINE), discard.get(0));
+
+        List<Card> highCard = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.HEARTS, Rank.QUEEN));
+                add(Card.of(Suit.CLUBS, Rank.FIVE));
+                add(Card.of(Suit.DIAMONDS, Rank.THREE));
+                add(Card.of(Suit.SPADES, Rank.NINE));
+            }
+        };
+
+        discard = DrawSolver.bestDiscard(new Hand(highCard));
+
+        assertEquals(4, discard.size());
+        assertFalse(discard.contains(Card.of(Suit.CLUBS, Rank.KING)));
+    }
+
+    @Test
+    public void testDrawTable() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.CLUBS, Rank.QUEEN));
+                add(Card.of(Suit.CLUBS, Rank.FIVE));
+                add(Card.of(Suit.CLUBS, Rank.THREE));
+                add(Card.of(Suit.SPADES, Rank.NINE));
+            }
+        };
+
+        long canonical = CardSet.canonical(CardSet.bitsOf(cards));
+        DrawTable table = DrawTable.build(new long[]{canonical});
+        Path path = Files.createTempFile("drawtable", ".bin");
+
+        try {
+            table.write(path);
+            DrawTable read = DrawTable.read(path);
+
+            assertEquals(1, read.size());
+            assertEquals(DrawSolver.bestDiscardMask(canonical), read.getDiscardMask(canonical));
+            assertEquals(-1, read.getDiscardMask(canonical + 1));
+
+            DrawSolver.setTable(read);
+            List<Card> discard = DrawSolver.bestDiscard(new Hand(cards));
+
+            assertEquals(1, discard.size());
+            assertEquals(Card.of(Suit.SPADES, Rank.NINE), discard.get(0));
+        }
+        finally {
+            DrawSolver.setTable(null);
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testBrokenDrawTable() throws Exception {
+
+        Path path = Files.createTempFile("drawtable", ".bin");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+                out.writeInt(0x504B4454);
+                out.writeInt(1);
+                out.writeInt(Integer.MAX_VALUE);
+                out.writeLong(1);
+                out.writeByte(0);
+            }
+
+            try {
+                DrawTable.read(path);
+                fail("Table with wrong hand count was read");
+            }
+            catch (IOException ex) {
+                assertTrue(ex.getMessage().startsWith("Draw table has " + Integer.MAX_VALUE + " hands"));
+            }
+
+            Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+            try {
+                DrawTable.read(path);
+                fail("File that is not a draw table was read");
+            }
+            catch (IOException ex) {
+                assertTrue(ex.getMessage().startsWith("File is not a draw table"));
+            }
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package analyzers;
+
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
+import models.EquityResult;
+import models.Hand;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class EquityCalculatorTest extends TestCase {
+
+    @Test
+    public void testRoyalFlushNeverLoses() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.SPADES, Rank.KING));
+                add(Card.of(Suit.SPADES, Rank.QUEEN));
+                add(Card.of(Suit.SPADES, Rank.JACK));
+                add(Card.of(Suit.SPADES, Rank.TEN));
+            }
+        };
+
+        EquityResult result = EquityCalculator.monteCarlo(new Hand(cards), 3, 0.01);
+
+        // Opponent can be dealt one of other royal flushes, which ties
+        assertEquals(0, result.getLosses());
+        assertEquals(result.getSamples(), result.getWins() + result.getTies());
+        assertTrue(result.getEquity() > 0.999);
+    }
+
+    @Test
+    public void testMonteCarlo() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.CLUBS, Rank.NINE));
+                add(Card.of(Suit.SPADES, Rank.SEVEN));
+                add(Card.of(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        EquityResult result = EquityCalculator.monteCarlo(new Hand(cards), CardSet.EMPTY, 1, 0.002,
+                EquityCalculator.MAX_SAMPLES, new SplittableRandom(1));
+
+        assertTrue(result.getStandardError() <= 0.002);
+        assertEquals(result.getSamples(), result.getWins() + result.getTies() + result.getLosses());
+        assertEquals(1.0, result.getWinProbability() + result.getTieProbability() + result.getLossProbability(), 1e-9);
+        assertTrue(result.getWinProbability() > 0.8);
+    }
+
+    @Test
+    public void testNotEnoughCards() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.CLUBS, Rank.NINE));
+                add(Card.of(Suit.SPADES, Rank.SEVEN));
+                add(Card.of(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        try {
+            EquityCalculator.monteCarlo(new Hand(cards), 10, 0.01);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertNotNull(ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testExact() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.CLUBS, Rank.NINE));
+                add(Card.of(Suit.SPADES, Rank.SEVEN));
+                add(Card.of(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        List<Card> sameSuitless = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.ACE));
+                add(Card.of(Suit.DIAMONDS, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.NINE));
+                add(Card.of(Suit.CLUBS, Rank.SEVEN));
+                add(Card.of(Suit.SPADES, Rank.TWO));
+            }
+        };
+
+        EquityResult result = EquityCalculator.exact(new Hand(cards));
+
+        assertEquals(1533939, result.getSamples());
+        assertEquals(result.getWins(), EquityCalculator.exact(new Hand(sameSuitless)).getWins());
+
+        CardSet dead = CardSet.of(Card.of(Suit.CLUBS, Rank.ACE), Card.of(Suit.DIAMONDS, Rank.ACE));
+        EquityResult deadResult = EquityCalculator.exact(new Hand(cards), dead);
+
+        assertEquals(1221759, deadResult.getSamples());
+        assertEquals(deadResult.getSamples(), deadResult.getWins() + deadResult.getTies() + deadResult.getLosses());
+        assertTrue(deadResult.getWins() < result.getWins());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package analyzers;
+
+import junit.framework.TestCase;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class EvaluatorTablesTest extends TestCase {
+
+    private static void assertSameTables(EvaluatorTables expected, EvaluatorTables actual) {
+        assertEquals(expected.flushes, actual.flushes);
+        assertEquals(expected.unique5, actual.unique5);
+        assertEquals(expected.hashKeys, actual.hashKeys);
+        assertEquals(expected.hashValues, actual.hashValues);
+        assertEquals(expected.omaha, actual.omaha);
+    }
+
+    @Test
+    public void testWriteAndMap() throws Exception {
+
+        EvaluatorTables built = EvaluatorTables.build();
+        Path path = Files.createTempFile("evaluator", ".tables");
+
+        try {
+            built.write(path);
+            EvaluatorTables mapped = EvaluatorTables.map(path);
+
+            assertFalse(built.isMapped());
+            assertTrue(mapped.isMapped());
+            assertSameTables(built, mapped);
+            assertSameTables(HandEvaluator.TABLES, mapped);
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testBrokenFileIsNotMapped() throws Exception {
+
+        Path path = Files.createTempFile("evaluator", ".tables");
+
+        try {
+            EvaluatorTables.build().write(path);
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{1}), 5000);
+            }
+
+            try {
+                EvaluatorTables.map(path);
+                fail("Broken file was mapped");
+            }
+            catch (IOException ex) {
+                assertTrue(ex.getMessage().startsWith("Checksum"));
+            }
+
+            Files.write(path, new byte[]{1, 2, 3});
+
+            try {
+                EvaluatorTables.map(path);
+                fail("Short file was mapped");
+            }
+            catch (IOException ex) {
+                assertTrue(ex.getMessage().startsWith("File is not evaluator tables"));
+            }
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testLoadBuildsMissingAndBrokenFile() throws Exception {
+
+        Path directory = Files.createTempDirectory("evaluator");
+        Path path = directory.resolve("poker.tables");
+
+        try {
+            EvaluatorTables built = EvaluatorTables.load(path);
+
+            assertFalse(built.isMapped());
+            assertTrue(Files.exists(path));
+
+            EvaluatorTables mapped = EvaluatorTables.load(path);
+
+            assertTrue(mapped.isMapped());
+            assertSameTables(built, mapped);
+
+            Files.write(path, new byte[]{1, 2, 3});
+
+            assertFalse(EvaluatorTables.load(path).isMapped());
+            assertTrue(EvaluatorTables.load(path).isMapped());
+        }
+        finally {
+            Files.deleteIfExists(path);
+            Files.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package analyzers;
+
+import enums.PokerHand;
+import junit.framework.TestCase;
+import models.CardSet;
+import models.EnumerationResult;
+import org.junit.Test;
+
+public class HandEnumerationTest extends TestCase {
+
+    @Test
+    public void testEnumerate() throws Exception {
+
+        EnumerationResult result = HandEnumeration.enumerate();
+
+        assertEquals(2598960, result.getHandCount());
+        assertEquals(HandEvaluator.STRENGTH_CLASSES, result.getDistinctStrengths());
+        assertEquals(4, result.getCount(PokerHand.ROYAL_FLUSH));
+        assertEquals(36, result.getCount(PokerHand.STRAIGHT_FLUSH));
+        assertEquals(624, result.getCount(PokerHand.FOUR_OF_A_KIND));
+        assertEquals(3744, result.getCount(PokerHand.FULL_HOUSE));
+        assertEquals(5108, result.getCount(PokerHand.FLUSH));
+        assertEquals(10200, result.getCount(PokerHand.STRAIGHT));
+        assertEquals(54912, result.getCount(PokerHand.THREE_OF_A_KIND));
+        assertEquals(123552, result.getCount(PokerHand.TWO_PAIRS));
+        assertEquals(1098240, result.getCount(PokerHand.ONE_PAIR));
+        assertEquals(1302540, result.getCount(PokerHand.HIGH_CARD));
+    }
+
+    @Test
+    public void testEnumerateFewCards() throws Exception {
+
+        EnumerationResult result = HandEnumeration.enumerate(new CardSet(0x3FL));
+
+        assertEquals(6, result.getHandCount());
+        assertEquals(0, HandEnumeration.enumerate(new CardSet(0xFL)).getHandCount());
+    }
+}
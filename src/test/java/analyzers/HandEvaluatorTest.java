@@ -0,0 +1,147 @@
+package analyzers;
+
+import enums.PokerHand;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class HandEvaluatorTest extends TestCase {
+
+    @Test
+    public void testRoyalFlushIsStrongest() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.SPADES, Rank.ACE));
+                add(new Card(Suit.SPADES, Rank.KING));
+                add(new Card(Suit.SPADES, Rank.QUEEN));
+                add(new Card(Suit.SPADES, Rank.JACK));
+                add(new Card(Suit.SPADES, Rank.TEN));
+            }
+        };
+
+        assertEquals(HandEvaluator.STRENGTH_CLASSES, HandEvaluator.evaluate(cards));
+        assertEquals(PokerHand.ROYAL_FLUSH, HandEvaluator.getPokerHand(HandEvaluator.evaluate(cards)));
+    }
+
+    @Test
+    public void testWheelIsLowestStraight() throws Exception {
+
+        List<Card> wheel = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.SPADES, Rank.ACE));
+                add(new Card(Suit.HEARTS, Rank.TWO));
+                add(new Card(Suit.SPADES, Rank.THREE));
+                add(new Card(Suit.CLUBS, Rank.FOUR));
+                add(new Card(Suit.SPADES, Rank.FIVE));
+            }
+        };
+
+        List<Card> sixHigh = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.SPADES, Rank.SIX));
+                add(new Card(Suit.HEARTS, Rank.TWO));
+                add(new Card(Suit.SPADES, Rank.THREE));
+                add(new Card(Suit.CLUBS, Rank.FOUR));
+                add(new Card(Suit.SPADES, Rank.FIVE));
+            }
+        };
+
+        assertEquals(PokerHand.STRAIGHT, HandEvaluator.getPokerHand(HandEvaluator.evaluate(wheel)));
+        assertTrue(HandEvaluator.evaluate(wheel) < HandEvaluator.evaluate(sixHigh));
+    }
+
+    @Test
+    public void testWrongNumberOfCards() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.SPADES, Rank.ACE));
+            }
+        };
+
+        assertEquals(0, HandEvaluator.evaluate(cards));
+        assertNull(HandEvaluator.getPokerHand(0));
+    }
+
+    @Test
+    public void testDuplicateCards() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.HEARTS, Rank.ACE));
+                add(new Card(Suit.DIAMONDS, Rank.ACE));
+                add(new Card(Suit.SPADES, Rank.ACE));
+                add(new Card(Suit.CLUBS, Rank.ACE));
+                add(new Card(Suit.HEARTS, Rank.ACE));
+            }
+        };
+
+        // Five aces have a product that no hand has, evaluation must not probe forever
+        Future<Integer> strength = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }).submit(() -> HandEvaluator.evaluate(cards));
+
+        assertEquals(Integer.valueOf(0), strength.get(10, TimeUnit.SECONDS));
+
+        int ace = HandEvaluator.encode(12, 0);
+        assertEquals(0, HandEvaluator.evaluate(ace, ace, HandEvaluator.encode(11, 1),
+                HandEvaluator.encode(10, 2), HandEvaluator.encode(9, 3)));
+        assertEquals(0, HandEvaluator.evaluate(ace, ace, HandEvaluator.encode(11, 0),
+                HandEvaluator.encode(10, 0), HandEvaluator.encode(9, 0)));
+        assertEquals(0, HandEvaluator.lookupProduct(41 * 41 * 41 * 41 * 41));
+    }
+
+    @Test
+    public void testAllHands() throws Exception {
+
+        int[] codes = new int[52];
+
+        for (int i = 0; i < 52; i++) {
+            codes[i] = HandEvaluator.encode(i % 13, i / 13);
+        }
+
+        Map<PokerHand, Integer> counts = new EnumMap<>(PokerHand.class);
+        Set<Integer> strengths = new HashSet<>();
+
+        for (int a = 0; a < 48; a++) {
+            for (int b = a + 1; b < 49; b++) {
+                for (int c = b + 1; c < 50; c++) {
+                    for (int d = c + 1; d < 51; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            int strength = HandEvaluator.evaluate(codes[a], codes[b], codes[c], codes[d], codes[e]);
+                            strengths.add(strength);
+                            counts.merge(HandEvaluator.getPokerHand(strength), 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(HandEvaluator.STRENGTH_CLASSES, strengths.size());
+        assertEquals(4, (int) counts.get(PokerHand.ROYAL_FLUSH));
+        assertEquals(36, (int) counts.get(PokerHand.STRAIGHT_FLUSH));
+        assertEquals(624, (int) counts.get(PokerHand.FOUR_OF_A_KIND));
+        assertEquals(3744, (int) counts.get(PokerHand.FULL_HOUSE));
+        assertEquals(5108, (int) counts.get(PokerHand.FLUSH));
+        assertEquals(10200, (int) counts.get(PokerHand.STRAIGHT));
+        assertEquals(54912, (int) counts.get(PokerHand.THREE_OF_A_KIND));
+        assertEquals(123552, (int) counts.get(PokerHand.TWO_PAIRS));
+        assertEquals(1098240, (int) counts.get(PokerHand.ONE_PAIR));
+        assertEquals(1302540, (int) counts.get(PokerHand.HIGH_CARD));
+    }
+}
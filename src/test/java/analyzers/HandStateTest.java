@@ -0,0 +1,121 @@
+package analyzers;
+
+import enums.PokerHand;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.Random;
+
+public class HandStateTest extends TestCase {
+
+    @Test
+    public void testDealtCardsMatchSevenCardEvaluator() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(3));
+        HandState state = new HandState();
+
+        for (int i = 0; i < 20_000; i++) {
+
+            deck.resetDeck();
+            state.clear();
+
+            for (int card = 0; card < 7; card++) {
+                state.add(deck.deal());
+                assertEquals(SevenCardEvaluator.evaluate(state.getBits()), state.evaluate());
+            }
+        }
+    }
+
+    @Test
+    public void testPopRestoresState() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(5));
+        HandState state = new HandState(deck.getRandomBits(4));
+        long hole = state.getBits();
+        long remaining = CardSet.FULL_DECK_BITS & ~hole;
+
+        for (long a = remaining; a != 0; a = CardSet.removeFirst(a)) {
+            state.add(CardSet.first(a));
+
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                state.add(CardSet.first(b));
+
+                for (long c = CardSet.removeFirst(b); c != 0; c = CardSet.removeFirst(c)) {
+                    state.add(CardSet.first(c));
+                    assertEquals(SevenCardEvaluator.evaluate(state.getBits()), state.evaluate());
+                    assertEquals(CardSet.first(c), state.pop());
+                }
+                state.pop();
+            }
+            state.pop();
+        }
+
+        assertEquals(hole, state.getBits());
+        assertEquals(4, state.size());
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+
+        HandState state = new HandState();
+
+        state.add(Card.of(Suit.HEARTS, Rank.KING));
+        state.add(Card.of(Suit.CLUBS, Rank.KING));
+        state.add(Card.of(Suit.SPADES, Rank.KING));
+        state.add(Card.of(Suit.HEARTS, Rank.TWO));
+        state.add(Card.of(Suit.CLUBS, Rank.TWO));
+
+        assertEquals(PokerHand.FULL_HOUSE, state.getPokerHand());
+        assertEquals(3, state.getRankCount(11));
+        assertEquals(2, state.getSuitCount(Suit.HEARTS.ordinal()));
+        assertEquals(0x801, state.getRankMask(2));
+        assertEquals(0x800, state.getRankMask(3));
+        assertEquals(0, state.getRankMask(4));
+
+        state.remove(Card.of(Suit.CLUBS, Rank.KING));
+        state.add(Card.of(Suit.SPADES, Rank.SEVEN));
+
+        assertEquals(PokerHand.TWO_PAIRS, state.getPokerHand());
+        assertEquals(Card.of(Suit.SPADES, Rank.SEVEN).getIndex(), state.pop());
+        assertNull(state.getPokerHand());
+        assertEquals(4, state.getCards().size());
+    }
+
+    @Test
+    public void testWrongCards() throws Exception {
+
+        HandState state = new HandState();
+        state.add(Card.of(Suit.HEARTS, Rank.KING));
+
+        try {
+            state.add(Card.of(Suit.HEARTS, Rank.KING));
+            fail("Same card was added twice");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals(1, state.size());
+        }
+
+        try {
+            state.remove(Card.of(Suit.CLUBS, Rank.KING));
+            fail("Card that is not in hand was removed");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals(1, state.size());
+        }
+
+        state.pop();
+
+        try {
+            state.pop();
+            fail("Card was popped from empty hand");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals(0, state.evaluate());
+        }
+    }
+}
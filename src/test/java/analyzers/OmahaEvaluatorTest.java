@@ -0,0 +1,122 @@
+package analyzers;
+
+import enums.PokerHand;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class OmahaEvaluatorTest extends TestCase {
+
+    /**
+     * Evaluates every hand of 2 hole cards and 3 board cards and takes strongest.
+     */
+    private static int bruteForce(long holeBits, long boardBits) {
+
+        int best = 0;
+
+        for (long a = holeBits; a != 0; a = CardSet.removeFirst(a)) {
+            for (long b = CardSet.removeFirst(a); b != 0; b = CardSet.removeFirst(b)) {
+                for (long c = boardBits; c != 0; c = CardSet.removeFirst(c)) {
+                    for (long d = CardSet.removeFirst(c); d != 0; d = CardSet.removeFirst(d)) {
+                        for (long e = CardSet.removeFirst(d); e != 0; e = CardSet.removeFirst(e)) {
+                            long bits = CardSet.bit(CardSet.first(a)) | CardSet.bit(CardSet.first(b))
+                                    | CardSet.bit(CardSet.first(c)) | CardSet.bit(CardSet.first(d)) | CardSet.bit(CardSet.first(e));
+                            best = Math.max(best, HandEvaluator.evaluate(bits));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void testRandomHandsMatchBruteForce() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(19));
+
+        for (int i = 0; i < 60_000; i++) {
+
+            deck.resetDeck();
+            long hole = deck.getRandomBits(4 + i % 3);
+            long board = deck.getRandomBits(3 + (i / 3) % 3);
+
+            int strength = OmahaEvaluator.evaluate(hole, board);
+            assertEquals(bruteForce(hole, board), strength);
+
+            long best = OmahaEvaluator.bestFive(hole, board);
+            assertEquals(2, Long.bitCount(best & hole));
+            assertEquals(3, Long.bitCount(best & board));
+            assertEquals(strength, HandEvaluator.evaluate(best));
+        }
+    }
+
+    @Test
+    public void testFlushNeedsTwoHoleCards() throws Exception {
+
+        List<Card> hole = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.SPADES, Rank.SEVEN));
+                add(Card.of(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        List<Card> board = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.THREE));
+                add(Card.of(Suit.HEARTS, Rank.NINE));
+                add(Card.of(Suit.HEARTS, Rank.JACK));
+                add(Card.of(Suit.HEARTS, Rank.QUEEN));
+                add(Card.of(Suit.CLUBS, Rank.FOUR));
+            }
+        };
+
+        assertEquals(PokerHand.HIGH_CARD, HandEvaluator.getPokerHand(OmahaEvaluator.evaluate(hole, board)));
+
+        hole.set(1, Card.of(Suit.HEARTS, Rank.KING));
+        assertEquals(PokerHand.FLUSH, HandEvaluator.getPokerHand(OmahaEvaluator.evaluate(hole, board)));
+    }
+
+    @Test
+    public void testFourOfAKindOnBoardIsNotUsed() throws Exception {
+
+        List<Card> hole = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.TWO));
+                add(Card.of(Suit.CLUBS, Rank.THREE));
+                add(Card.of(Suit.SPADES, Rank.FIVE));
+                add(Card.of(Suit.DIAMONDS, Rank.SEVEN));
+            }
+        };
+
+        List<Card> board = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.KING));
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.SPADES, Rank.KING));
+                add(Card.of(Suit.DIAMONDS, Rank.KING));
+                add(Card.of(Suit.CLUBS, Rank.NINE));
+            }
+        };
+
+        assertEquals(PokerHand.THREE_OF_A_KIND, HandEvaluator.getPokerHand(OmahaEvaluator.evaluate(hole, board)));
+    }
+
+    @Test
+    public void testWrongCardCount() throws Exception {
+
+        assertEquals(0, OmahaEvaluator.evaluate(0x7L, 0x70000L));
+        assertEquals(0, OmahaEvaluator.evaluate(0xFL, 0x30000L));
+        assertEquals(0, OmahaEvaluator.evaluate(0xFL, 0x7L));
+    }
+}
@@ -6,9 +6,11 @@ import enums.Suit;
 import junit.framework.TestCase;
 import models.Card;
 import models.Hand;
+import models.MatchData;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class PokerHandAnalyzerTest extends TestCase {
@@ -181,4 +183,22 @@ public class PokerHandAnalyzerTest extends TestCase {
         Hand hand = new Hand(cards);
         assertTrue(PokerHandAnalyzer.getHighCardMatchData(hand).getMatch() == PokerHand.HIGH_CARD);
     }
+
+    @Test
+    public void testGetMatchData() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.HEARTS, Rank.THREE));
+                add(new Card(Suit.CLUBS, Rank.KING));
+                add(new Card(Suit.SPADES, Rank.THREE));
+                add(new Card(Suit.DIAMONDS, Rank.KING));
+                add(new Card(Suit.HEARTS, Rank.THREE));
+            }
+        };
+
+        MatchData md = PokerHandAnalyzer.getMatchData(new Hand(cards));
+        assertEquals(PokerHand.FULL_HOUSE, md.getMatch());
+        assertEquals(Arrays.asList(2, 12), md.getRankingList());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package analyzers;
+
+import enums.PokerHand;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RankHistogramTest extends TestCase {
+
+    @Test
+    public void testTwoPairs() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.HEARTS, Rank.THREE));
+                add(new Card(Suit.CLUBS, Rank.THREE));
+                add(new Card(Suit.SPADES, Rank.ACE));
+                add(new Card(Suit.DIAMONDS, Rank.NINE));
+                add(new Card(Suit.HEARTS, Rank.NINE));
+            }
+        };
+
+        RankHistogram histogram = new RankHistogram(cards);
+
+        assertEquals(2, histogram.getCount(Rank.NINE.getValue()));
+        assertEquals(PokerHand.TWO_PAIRS, histogram.getPokerHand());
+        assertEquals(Arrays.asList(8, 2, 13), histogram.getRankingList());
+    }
+
+    @Test
+    public void testWheelStraightFlush() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.CLUBS, Rank.ACE));
+                add(new Card(Suit.CLUBS, Rank.TWO));
+                add(new Card(Suit.CLUBS, Rank.THREE));
+                add(new Card(Suit.CLUBS, Rank.FOUR));
+                add(new Card(Suit.CLUBS, Rank.FIVE));
+            }
+        };
+
+        RankHistogram histogram = new RankHistogram(cards);
+
+        assertEquals(PokerHand.STRAIGHT_FLUSH, histogram.getPokerHand());
+        assertEquals(Arrays.asList(4, 3, 2, 1, 13), histogram.getRankingList());
+    }
+
+    @Test
+    public void testRoyalFlush() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.SPADES, Rank.ACE));
+                add(new Card(Suit.SPADES, Rank.KING));
+                add(new Card(Suit.SPADES, Rank.QUEEN));
+                add(new Card(Suit.SPADES, Rank.JACK));
+                add(new Card(Suit.SPADES, Rank.TEN));
+            }
+        };
+
+        assertEquals(PokerHand.ROYAL_FLUSH, new RankHistogram(cards).getPokerHand());
+    }
+}
@@ -0,0 +1,119 @@
+package analyzers;
+
+import enums.PokerHand;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
+import models.Hand;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SevenCardEvaluatorTest extends TestCase {
+
+    /**
+     * Evaluates every 5 card sub-hand of cards and takes strongest.
+     */
+    private static int bruteForce(long bits) {
+
+        int[] indexes = new int[Long.bitCount(bits)];
+        int n = 0;
+
+        for (long rest = bits; rest != 0; rest = CardSet.removeFirst(rest)) {
+            indexes[n++] = CardSet.first(rest);
+        }
+
+        int best = 0;
+
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    for (int d = c + 1; d < n; d++) {
+                        for (int e = d + 1; e < n; e++) {
+                            best = Math.max(best, HandEvaluator.evaluate(HandEvaluator.encode(indexes[a]),
+                                    HandEvaluator.encode(indexes[b]), HandEvaluator.encode(indexes[c]),
+                                    HandEvaluator.encode(indexes[d]), HandEvaluator.encode(indexes[e])));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void testRandomHandsMatchBruteForce() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(42));
+
+        for (int i = 0; i < 200_000; i++) {
+
+            deck.resetDeck();
+            long bits = deck.getRandomBits(5 + i % 3);
+            int strength = SevenCardEvaluator.evaluate(bits);
+
+            assertEquals(bruteForce(bits), strength);
+
+            long best = SevenCardEvaluator.bestFive(bits);
+
+            assertEquals(5, Long.bitCount(best));
+            assertEquals(best, best & bits);
+            assertEquals(strength, HandEvaluator.evaluate(best));
+        }
+    }
+
+    @Test
+    public void testFiveCardsMatchHandEvaluator() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(7));
+
+        for (int i = 0; i < 10_000; i++) {
+            deck.resetDeck();
+            long bits = deck.getRandomBits(5);
+
+            assertEquals(HandEvaluator.evaluate(bits), SevenCardEvaluator.evaluate(bits));
+            assertEquals(bits, SevenCardEvaluator.bestFive(bits));
+        }
+    }
+
+    @Test
+    public void testHoldemHand() throws Exception {
+
+        List<Card> hole = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.FIVE));
+                add(Card.of(Suit.CLUBS, Rank.ACE));
+            }
+        };
+
+        List<Card> board = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.HEARTS, Rank.TWO));
+                add(Card.of(Suit.HEARTS, Rank.THREE));
+                add(Card.of(Suit.HEARTS, Rank.FOUR));
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.SPADES, Rank.ACE));
+            }
+        };
+
+        Hand best = SevenCardEvaluator.bestHand(hole, board);
+
+        assertEquals(PokerHand.STRAIGHT_FLUSH, best.getPokerHand());
+        assertEquals(best.getStrength(), SevenCardEvaluator.evaluate(hole, board));
+        assertFalse(best.getCards().contains(Card.of(Suit.CLUBS, Rank.ACE)));
+        assertFalse(best.getCards().contains(Card.of(Suit.SPADES, Rank.ACE)));
+    }
+
+    @Test
+    public void testWrongCardCount() throws Exception {
+
+        assertEquals(0, SevenCardEvaluator.evaluate(0x0FL));
+        assertEquals(0, SevenCardEvaluator.evaluate(0xFFL));
+        assertEquals(0L, SevenCardEvaluator.bestFive(0xFFL));
+    }
+}
@@ -0,0 +1,106 @@
+package engine;
+
+import enums.PokerHand;
+import junit.framework.TestCase;
+import models.Player;
+import models.SimulationResult;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+public class GameEngineTest extends TestCase {
+
+    @Test
+    public void testPlayKeepsChips() throws Exception {
+
+        GameEngine engine = new GameEngine(Arrays.asList(
+                new RaisingStrategy(PokerHand.ONE_PAIR, 3), new CallingStrategy()), new Random(7));
+
+        List<Integer> chipCounts = new ArrayList<>();
+
+        engine.setListener(new GameListener() {
+            @Override
+            public void roundEnded(List<Player> winners, int chips) {
+                int total = 0;
+                for (Player player : engine.getTable().getPlayers()) {
+                    total += player.getChips();
+                }
+                chipCounts.add(total + engine.getTable().getChipsInPlay());
+            }
+        });
+
+        Player winner = engine.play();
+
+        assertNotNull(winner);
+        assertEquals(40, winner.getChips());
+        assertEquals(engine.getRounds(), chipCounts.size());
+
+        for (int total : chipCounts) {
+            assertEquals(40, total);
+        }
+    }
+
+    @Test
+    public void testSameSeedPlaysSameGame() throws Exception {
+
+        List<PlayerStrategy> strategies = Arrays.asList(
+                new RaisingStrategy(PokerHand.TWO_PAIRS, 5), new RaisingStrategy(PokerHand.ONE_PAIR, 1));
+
+        GameEngine engine1 = new GameEngine(strategies, new Random(11));
+        GameEngine engine2 = new GameEngine(strategies, new Random(11));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(engine1.play().getId(), engine2.play().getId());
+            assertEquals(engine1.getRounds(), engine2.getRounds());
+        }
+    }
+
+    @Test
+    public void testTenSeats() throws Exception {
+
+        List<PlayerStrategy> strategies = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            strategies.add(new RaisingStrategy(PokerHand.ONE_PAIR, 1 + i % 3));
+        }
+
+        GameEngine engine = new GameEngine(strategies, new Random(13));
+        List<Player> left = new ArrayList<>();
+
+        engine.setListener(new GameListener() {
+            @Override
+            public void playerLeft(Player loser) {
+                left.add(loser);
+            }
+        });
+
+        for (int i = 0; i < 20; i++) {
+
+            left.clear();
+            Player winner = engine.play();
+
+            assertNotNull(winner);
+            assertEquals(200, winner.getChips());
+            assertEquals(9, left.size());
+            assertFalse(left.contains(winner));
+        }
+    }
+
+    @Test
+    public void testSimulation() throws Exception {
+
+        SimulationResult result = Simulation.run(2000, () -> Arrays.asList(
+                new RaisingStrategy(PokerHand.ONE_PAIR, 2), new CallingStrategy()), new SplittableRandom(3));
+
+        assertEquals(2000, result.getGames());
+        assertEquals(2000, result.getWins(1) + result.getWins(2) + result.getUnfinished());
+        assertTrue(result.getRounds() >= 2000);
+
+        // Calling strategy never draws, so it loses most games
+        assertTrue(result.getWinRate(1) > 0.5);
+    }
+}
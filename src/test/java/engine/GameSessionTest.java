@@ -0,0 +1,114 @@
+package engine;
+
+import junit.framework.TestCase;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+public class GameSessionTest extends TestCase {
+
+    /**
+     * Input that gives scripted lines and waits when script is empty
+     */
+    private static class ScriptedInput implements PlayerInput {
+
+        private final Deque<String> lines = new ArrayDeque<>();
+
+        @Override
+        public String readLine() {
+            return lines.poll();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+
+    @Test
+    public void testSessionWaitsForInput() throws Exception {
+
+        ScriptedInput input = new ScriptedInput();
+        List<String> output = new ArrayList<>();
+        GameSession session = new GameSession(input, output::add, new CallingStrategy(), new CardDeck(new Random(5)));
+
+        assertFalse(session.run());
+        assertEquals(GameState.BET, session.getState());
+        assertFalse(session.step());
+        assertEquals(GameState.BET, session.getState());
+
+        input.lines.add("x");
+        assertTrue(session.step());
+        assertEquals(GameState.BET, session.getState());
+        assertEquals("Please enter an integer number or letter \"n\"!", output.get(output.size() - 1));
+
+        input.lines.add("100");
+        session.step();
+        assertEquals(GameState.BET, session.getState());
+        assertEquals("You only have 19 chips. Please try again!", output.get(output.size() - 1));
+
+        input.lines.add("4");
+        session.step();
+        assertEquals(GameState.DRAW, session.getState());
+        assertEquals(10, session.getTable().getChipsInPlay());
+
+        input.lines.add("1 1 5");
+        session.step();
+        assertEquals(GameState.SHOWDOWN, session.getState());
+        assertTrue(output.contains("You discarded 2 cards."));
+
+        session.step();
+        assertEquals(0, session.getTable().getChipsInPlay());
+        assertEquals(GameState.CHECK_CHIPS, session.getState());
+    }
+
+    @Test
+    public void testLongSessionHasConstantStack() throws Exception {
+
+        ScriptedInput input = new ScriptedInput();
+        GameSession session = new GameSession(input, message -> { }, new CallingStrategy(), new CardDeck(new Random(9)));
+
+        int games = 0;
+
+        while (session.getState() != GameState.OVER) {
+
+            if (!session.step()) {
+                if (session.getState() == GameState.PLAY_AGAIN) {
+                    games++;
+                    input.lines.add(games < 200 ? "y" : "n");
+                }
+                else {
+                    input.lines.add("n");
+                }
+            }
+        }
+
+        assertEquals(200, games);
+    }
+
+    @Test
+    public void testClosedInputEndsSession() throws Exception {
+
+        PlayerInput closed = new PlayerInput() {
+            @Override
+            public String readLine() {
+                return null;
+            }
+
+            @Override
+            public boolean isClosed() {
+                return true;
+            }
+        };
+
+        GameSession session = new GameSession(closed, message -> { }, new CallingStrategy(), new CardDeck(new Random(1)));
+
+        assertTrue(session.run());
+        assertEquals(GameState.OVER, session.getState());
+    }
+}
@@ -0,0 +1,263 @@
+package engine;
+
+import junit.framework.TestCase;
+import models.Card;
+import models.Player;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TableServerTest extends TestCase {
+
+    /**
+     * Answer of player who never raises, keeps all cards and does not play again
+     */
+    private static String answer(String message) {
+
+        if (message.startsWith("Would you like to raise")
+                || message.startsWith("Enter positions")
+                || message.startsWith("Would you like to play again")) {
+            return "n";
+        }
+        return null;
+    }
+
+    @Test
+    public void testManyTables() throws Exception {
+
+        int count = 1000;
+        CountDownLatch over = new CountDownLatch(count);
+        AtomicInteger goodbyes = new AtomicInteger();
+
+        try (TableServer server = new TableServer(4, CallingStrategy::new)) {
+
+            for (int i = 0; i < count; i++) {
+
+                QueueInput input = new QueueInput();
+
+                server.openTable(input, message -> {
+                    String answer = answer(message);
+
+                    if (answer != null) {
+                        input.offer(answer);
+                    }
+                    if (message.equals("Hope to see you again.")) {
+                        goodbyes.incrementAndGet();
+                    }
+                }, over::countDown);
+            }
+
+            assertTrue(over.await(60, TimeUnit.SECONDS));
+            assertEquals(count, goodbyes.get());
+            assertEquals(0, server.getTableCount());
+        }
+    }
+
+    @Test
+    public void testTableWaitsForInput() throws Exception {
+
+        try (TableServer server = new TableServer(1, CallingStrategy::new)) {
+
+            QueueInput input = new QueueInput();
+            CountDownLatch over = new CountDownLatch(1);
+            int id = server.openTable(input, message -> { }, over::countDown);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+
+            while (server.getState(id) != GameState.BET && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(GameState.BET, server.getState(id));
+            assertEquals(1, server.getTableCount());
+
+            input.close();
+
+            assertTrue(over.await(10, TimeUnit.SECONDS));
+            assertNull(server.getState(id));
+        }
+    }
+
+    @Test
+    public void testSocketPlayer() throws Exception {
+
+        try (TableServer server = new TableServer(2, CallingStrategy::new);
+             SocketTableServer sockets = new SocketTableServer(server, 0)) {
+
+            sockets.start();
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), sockets.getPort())) {
+
+                socket.setSoTimeout(10_000);
+
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+
+                assertEquals("-------- Game started ---------", in.readLine());
+
+                String last = null;
+
+                for (String line; (line = in.readLine()) != null; ) {
+
+                    String answer = answer(line);
+
+                    if (answer != null) {
+                        out.println(answer);
+                    }
+                    last = line;
+                }
+
+                assertEquals("Hope to see you again.", last);
+            }
+        }
+    }
+
+    @Test
+    public void testLongLineClosesConnection() throws Exception {
+
+        try (TableServer server = new TableServer(2, CallingStrategy::new);
+             SocketTableServer sockets = new SocketTableServer(server, 0)) {
+
+            sockets.start();
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), sockets.getPort())) {
+
+                socket.setSoTimeout(10_000);
+
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+
+                assertEquals("-------- Game started ---------", in.readLine());
+
+                char[] line = new char[SocketTableServer.MAX_LINE_LENGTH + 1];
+                Arrays.fill(line, 'x');
+                out.print(line);
+                out.flush();
+
+                assertClosed(in);
+            }
+
+            assertNoTables(server);
+        }
+    }
+
+    @Test
+    public void testOutOfRangeBetAsksAgain() throws Exception {
+
+        try (TableServer server = new TableServer(2, CallingStrategy::new);
+             SocketTableServer sockets = new SocketTableServer(server, 0)) {
+
+            sockets.start();
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), sockets.getPort())) {
+
+                socket.setSoTimeout(10_000);
+
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+
+                String line;
+
+                while (!(line = in.readLine()).startsWith("Would you like to raise")) {
+                    assertNotNull(line);
+                }
+
+                out.println("99999999999");
+
+                assertTrue(in.readLine().startsWith("You only have "));
+                out.println("n");
+
+                String last = null;
+
+                while ((line = in.readLine()) != null) {
+
+                    String answer = answer(line);
+
+                    if (answer != null) {
+                        out.println(answer);
+                    }
+                    last = line;
+                }
+
+                assertEquals("Hope to see you again.", last);
+            }
+
+            assertNoTables(server);
+        }
+    }
+
+    @Test
+    public void testFailedTableIsClosed() throws Exception {
+
+        PlayerStrategy failing = new PlayerStrategy() {
+
+            @Override
+            public int raise(Player player, int maxBet) {
+                throw new IllegalStateException("Strategy failed");
+            }
+
+            @Override
+            public List<Card> discard(Player player) {
+                throw new IllegalStateException("Strategy failed");
+            }
+        };
+
+        try (TableServer server = new TableServer(1, () -> failing)) {
+
+            QueueInput input = new QueueInput();
+            CountDownLatch over = new CountDownLatch(1);
+
+            server.openTable(input, message -> {
+                String answer = answer(message);
+
+                if (answer != null) {
+                    input.offer(answer);
+                }
+            }, over::countDown);
+
+            assertTrue(over.await(10, TimeUnit.SECONDS));
+            assertEquals(0, server.getTableCount());
+            assertTrue(input.isClosed());
+        }
+    }
+
+    /**
+     * Reads until server closes connection and fails if it is not closed before socket timeout.
+     */
+    private static void assertClosed(BufferedReader in) throws Exception {
+
+        try {
+            while (in.readLine() != null) {
+                // messages that were sent before connection was closed
+            }
+        }
+        catch (SocketTimeoutException ex) {
+            fail("Server did not close connection");
+        }
+    }
+
+    /**
+     * Waits until sessions of all tables are over.
+     */
+    private static void assertNoTables(TableServer server) throws Exception {
+
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (server.getTableCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(0, server.getTableCount());
+    }
+}
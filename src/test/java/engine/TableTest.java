@@ -0,0 +1,243 @@
+package engine;
+
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import models.Card;
+import models.Hand;
+import models.Player;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class TableTest extends TestCase {
+
+    @Test
+    public void testBetAndCollectBet() throws Exception {
+
+        Player player1 = new Player(1);
+        Player player2 = new Player(2);
+        Table table = new Table(Arrays.asList(player1, player2), new CardDeck(new Random(1)));
+
+        table.bet(1);
+        table.bet(4);
+
+        assertEquals(15, player1.getChips());
+        assertEquals(15, player2.getChips());
+        assertEquals(10, table.getChipsInPlay());
+        assertEquals(15, table.getMaxBet());
+
+        assertEquals(10, table.collectBet(player2));
+        assertEquals(25, player2.getChips());
+        assertEquals(0, table.getChipsInPlay());
+    }
+
+    @Test
+    public void testSplitBet() throws Exception {
+
+        Player player1 = new Player(1);
+        Player player2 = new Player(2);
+        Table table = new Table(Arrays.asList(player1, player2), new CardDeck(new Random(1)));
+
+        table.bet(3);
+
+        assertEquals(3, table.splitBet(table.getPlayers()));
+        assertEquals(20, player1.getChips());
+        assertEquals(20, player2.getChips());
+        assertEquals(0, table.getChipsInPlay());
+    }
+
+    @Test
+    public void testCheckChips() throws Exception {
+
+        Player player1 = new Player(1);
+        Player player2 = new Player(2);
+        Table table = new Table(Arrays.asList(player1, player2), new CardDeck(new Random(1)));
+
+        assertTrue(table.checkChips().isEmpty());
+        assertFalse(table.isGameOver());
+
+        table.bet(20);
+        table.collectBet(player1);
+
+        assertEquals(Arrays.asList(player2), table.checkChips());
+        assertEquals(Arrays.asList(player1), table.getPlayers());
+        assertTrue(table.isGameOver());
+    }
+
+    @Test
+    public void testSplitBetRemainder() throws Exception {
+
+        List<Player> players = new ArrayList<>();
+
+        for (int id = 1; id <= 7; id++) {
+            players.add(new Player(id));
+        }
+
+        Table table = new Table(players, new CardDeck(new Random(1)));
+
+        table.bet(2);
+
+        List<Player> winners = Arrays.asList(players.get(1), players.get(3), players.get(4));
+
+        assertEquals(4, table.splitBet(winners));
+        assertEquals(23, players.get(1).getChips());
+        assertEquals(23, players.get(3).getChips());
+        assertEquals(22, players.get(4).getChips());
+        assertEquals(18, players.get(0).getChips());
+        assertEquals(0, table.getChipsInPlay());
+    }
+
+    @Test
+    public void testSeats() throws Exception {
+
+        try {
+            new Table(Arrays.asList(new Player(1)), new CardDeck());
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        List<Player> players = new ArrayList<>();
+
+        for (int id = 1; id <= 11; id++) {
+            players.add(new Player(id));
+        }
+
+        try {
+            new Table(players, new CardDeck());
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRankPlayers() throws Exception {
+
+        List<Player> players = new ArrayList<>();
+
+        for (int id = 1; id <= 10; id++) {
+            players.add(new Player(id));
+        }
+
+        Table table = new Table(players, new CardDeck(new Random(3)));
+
+        for (int i = 0; i < 100; i++) {
+
+            table.dealCards();
+
+            List<Player> ranking = table.rankPlayers();
+            assertEquals(10, ranking.size());
+
+            for (int j = 1; j < ranking.size(); j++) {
+
+                int result = ranking.get(j - 1).getHand().compareTo(ranking.get(j).getHand());
+                assertTrue(result >= 0);
+
+                if (result == 0) {
+                    assertTrue(ranking.get(j - 1).getId() < ranking.get(j).getId());
+                }
+            }
+
+            List<Player> winners = table.findWinners();
+
+            for (Player player : players) {
+                int result = player.getHand().compareTo(winners.get(0).getHand());
+                assertEquals(result == 0, winners.contains(player));
+            }
+        }
+    }
+
+    @Test
+    public void testDrawWithFullTable() throws Exception {
+
+        List<Player> players = new ArrayList<>();
+
+        for (int id = 1; id <= 10; id++) {
+            players.add(new Player(id));
+        }
+
+        Table table = new Table(players, new CardDeck(new Random(5)));
+        table.dealCards();
+
+        for (Player player : players) {
+            table.replaceCards(player, new ArrayList<>(player.getHand().getCards()));
+        }
+
+        long seen = 0L;
+
+        for (Player player : players) {
+            assertEquals(5, player.getHand().getCards().size());
+
+            for (Card card : player.getHand().getCards()) {
+                assertEquals(0L, seen & (1L << card.getIndex()));
+                seen |= 1L << card.getIndex();
+            }
+        }
+    }
+
+    @Test
+    public void testFindWinners() throws Exception {
+
+        List<Card> pair = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.SPADES, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.ACE));
+                add(Card.of(Suit.SPADES, Rank.SEVEN));
+                add(Card.of(Suit.CLUBS, Rank.FIVE));
+                add(Card.of(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        List<Card> samePair = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.ACE));
+                add(Card.of(Suit.DIAMONDS, Rank.ACE));
+                add(Card.of(Suit.HEARTS, Rank.SEVEN));
+                add(Card.of(Suit.SPADES, Rank.FIVE));
+                add(Card.of(Suit.HEARTS, Rank.TWO));
+            }
+        };
+
+        Player player1 = new Player(1);
+        Player player2 = new Player(2);
+        Table table = new Table(Arrays.asList(player1, player2), new CardDeck(new Random(1)));
+
+        player1.setHand(new Hand(pair));
+        player2.setHand(new Hand(samePair));
+
+        assertEquals(Arrays.asList(player1, player2), table.findWinners());
+
+        List<Card> weaker = new ArrayList<>(samePair);
+        weaker.set(2, Card.of(Suit.HEARTS, Rank.SIX));
+        player2.setHand(new Hand(weaker));
+
+        assertEquals(Arrays.asList(player1), table.findWinners());
+    }
+
+    @Test
+    public void testReplaceCards() throws Exception {
+
+        Player player = new Player(1);
+        Table table = new Table(Arrays.asList(player, new Player(2)), new CardDeck(new Random(1)));
+
+        table.dealCards();
+
+        List<Card> cards = player.getHand().getCards();
+        List<Card> discard = Arrays.asList(cards.get(0), cards.get(3));
+
+        table.replaceCards(player, discard);
+
+        assertEquals(5, player.getHand().getCards().size());
+        assertFalse(player.getHand().getCards().contains(discard.get(0)));
+        assertFalse(player.getHand().getCards().contains(discard.get(1)));
+        assertEquals(40, table.getCardDeck().getRemainingCount());
+    }
+}
@@ -0,0 +1,167 @@
+package history;
+
+import engine.Simulation;
+import enums.FsyncPolicy;
+import enums.PokerHand;
+import junit.framework.TestCase;
+import models.HistoryReport;
+import models.SimulationResult;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class HandHistoryReaderTest extends TestCase {
+
+    private static SimulationResult simulate(Path directory, long games) throws Exception {
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(directory, 128 * 1024, FsyncPolicy.NONE, 4)) {
+            return Simulation.run(games, () -> HistoryTestSupport.strategies(2), new SplittableRandom(9),
+                    () -> new HandHistoryRecorder(writer));
+        }
+    }
+
+    @Test
+    public void testAnalyze() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            SimulationResult result = simulate(directory, 300);
+            HistoryReport report = HandHistoryReader.analyze(directory);
+
+            assertTrue(HandHistoryReader.segments(directory).size() > 1);
+            assertEquals(result.getRounds(), report.getRounds());
+            assertEquals(report.getRounds(), report.getRounds(1));
+            assertEquals(report.getRounds(), report.getRounds(2));
+            assertEquals(0, report.getRounds(3));
+            assertTrue(report.getWins(1) + report.getWins(2) >= report.getRounds());
+
+            long shown = 0;
+            long pools = 0;
+
+            for (PokerHand pokerHand : PokerHand.values()) {
+                shown += report.getShown(pokerHand);
+                assertTrue(report.getWon(pokerHand) <= report.getShown(pokerHand));
+            }
+
+            for (int pool = 0; pool <= HistoryReport.POOL_LIMIT; pool++) {
+                pools += report.getPoolCount(pool);
+            }
+
+            assertEquals(2 * report.getRounds(), shown);
+            assertEquals(report.getRounds(), pools);
+            assertEquals(0, report.getPoolCount(1));
+            assertTrue(report.getPoolCount(2) > 0);
+            assertTrue(report.getPoolPercentile(0.5) <= report.getPoolPercentile(0.9));
+            assertTrue(report.getPoolPercentile(1) == report.getMaxPool());
+            assertTrue(report.getAveragePool() >= 2);
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testRecordsInOrder() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            simulate(directory, 20);
+
+            Map<Long, Integer> rounds = new HashMap<>();
+
+            long count = HandHistoryReader.forEachInDirectory(directory, record -> {
+
+                Integer previous = rounds.put(record.getGameId(), record.getRound());
+                assertEquals(previous == null ? 1 : previous + 1, record.getRound());
+
+                assertEquals(record.getPool(), record.getReceived(0) + record.getReceived(1));
+                assertEquals(40, record.getChipsBefore(0) + record.getChipsBefore(1));
+                assertEquals(record.getStrength(0) > record.getStrength(1), record.isWinner(0) && !record.isWinner(1));
+            });
+
+            assertTrue(count > 20);
+            assertEquals(20, rounds.size());
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testIncompleteAndBrokenSegments() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            simulate(directory, 5);
+
+            Path segment = HandHistoryReader.segments(directory).get(0);
+            long count = HandHistoryReader.forEach(segment, record -> { });
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 10);
+            }
+
+            assertEquals(count - 1, HandHistoryReader.forEach(segment, record -> { }));
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0}), 0);
+            }
+
+            try {
+                HandHistoryReader.analyze(directory);
+                fail("Broken segment was read");
+            }
+            catch (IOException ex) {
+                assertTrue(ex.getMessage().startsWith("File is not a hand history segment"));
+            }
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testInvalidRecordsAreSkipped() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            simulate(directory, 5);
+
+            long rounds = HandHistoryReader.analyze(directory).getRounds();
+            Path segment = HandHistoryReader.segments(directory).get(0);
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+                ByteBuffer length = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(length, HandHistory.SEGMENT_HEADER);
+                int second = HandHistory.SEGMENT_HEADER + length.getShort(0);
+
+                ByteBuffer strength = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN).putShort(0, (short) 0);
+                channel.write(strength, HandHistory.SEGMENT_HEADER + HandHistory.RECORD_HEADER + 2);
+                channel.write(ByteBuffer.wrap(new byte[]{(byte) 200}), second + HandHistory.RECORD_HEADER);
+            }
+
+            HistoryReport report = HandHistoryReader.analyze(directory);
+
+            assertEquals(2, report.getSkipped());
+            assertEquals(rounds - 2, report.getRounds());
+            assertTrue(report.toString().contains("Skipped records"));
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+}
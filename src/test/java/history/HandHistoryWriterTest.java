@@ -0,0 +1,220 @@
+package history;
+
+import engine.DrawSolverStrategy;
+import engine.GameSession;
+import engine.QueueInput;
+import engine.Simulation;
+import enums.FsyncPolicy;
+import junit.framework.TestCase;
+import models.SimulationResult;
+import org.junit.Test;
+import pools.CardDeck;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+public class HandHistoryWriterTest extends TestCase {
+
+    @Test
+    public void testSimulationIsRecorded() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            SimulationResult result;
+
+            try (HandHistoryWriter writer = new HandHistoryWriter(directory, 256 * 1024, FsyncPolicy.SEGMENT, 2)) {
+                result = Simulation.run(500, () -> HistoryTestSupport.strategies(3), new SplittableRandom(3),
+                        () -> new HandHistoryRecorder(writer));
+            }
+
+            List<Path> segments = HistoryTestSupport.segments(directory);
+            assertTrue(segments.size() > 1);
+
+            long rounds = 0;
+            Set<Long> games = new HashSet<>();
+
+            for (Path segment : segments) {
+
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment)).order(ByteOrder.LITTLE_ENDIAN);
+
+                assertTrue(buffer.limit() <= 256 * 1024);
+                assertEquals(HandHistory.MAGIC, buffer.getInt());
+                assertEquals(HandHistory.VERSION, buffer.getInt());
+                buffer.getLong();
+
+                while (buffer.hasRemaining()) {
+
+                    int start = buffer.position();
+                    int length = buffer.getShort();
+                    int seats = buffer.get();
+
+                    assertEquals(HandHistory.RECORD_HEADER + seats * HandHistory.SEAT_SIZE, length);
+                    assertEquals(1, buffer.get());
+                    assertTrue(buffer.getInt() >= 1);
+                    games.add(buffer.getLong());
+                    buffer.getLong();
+
+                    int pool = buffer.getInt();
+                    int bet = buffer.getInt();
+                    int chips = 0;
+                    int won = 0;
+                    int winners = 0;
+
+                    assertEquals(seats * bet, pool);
+
+                    for (int seat = 0; seat < seats; seat++) {
+
+                        buffer.get();
+                        boolean winner = (buffer.get() & HandHistory.FLAG_WINNER) != 0;
+                        int strength = buffer.getShort();
+                        chips += buffer.getInt();
+                        int received = buffer.getInt();
+
+                        assertEquals(5, Long.bitCount(buffer.getLong()));
+                        assertEquals(5, Long.bitCount(buffer.getLong()));
+                        assertTrue(strength >= 1 && strength <= 7462);
+                        assertEquals(winner, received > 0);
+
+                        won += received;
+                        winners += winner ? 1 : 0;
+                    }
+
+                    assertEquals(60, chips);
+                    assertEquals(pool, won);
+                    assertTrue(winners >= 1);
+                    assertEquals(start + length, buffer.position());
+                    rounds++;
+                }
+            }
+
+            assertEquals(result.getRounds(), rounds);
+            assertEquals(500, games.size());
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testNewWriterStartsNewSegment() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            long firstGame;
+
+            try (HandHistoryWriter writer = new HandHistoryWriter(directory, 128 * 1024, FsyncPolicy.BATCH, 1)) {
+
+                firstGame = writer.nextGameId();
+                ByteBuffer batch = writer.takeBuffer();
+                batch.putLong(42);
+                writer.submit(batch);
+            }
+
+            HandHistoryWriter closed;
+
+            try (HandHistoryWriter writer = new HandHistoryWriter(directory)) {
+
+                assertTrue(writer.nextGameId() > firstGame);
+
+                ByteBuffer batch = writer.takeBuffer();
+                batch.putLong(43);
+                writer.submit(batch);
+                closed = writer;
+            }
+
+            try {
+                closed.submit(closed.takeBuffer());
+                fail("Batch was submitted to closed writer");
+            }
+            catch (IllegalStateException ex) {
+                assertEquals(HandHistory.SEGMENT_HEADER + 8, closed.getWrittenBytes());
+            }
+
+            List<Path> segments = HistoryTestSupport.segments(directory);
+
+            assertEquals(2, segments.size());
+            assertEquals("hands-00000002.seg", segments.get(1).getFileName().toString());
+            assertEquals(HandHistory.SEGMENT_HEADER + 8, Files.size(segments.get(0)));
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testRoundsAreSubmittedBeforeClose() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(directory, HandHistoryWriter.SEGMENT_SIZE,
+                FsyncPolicy.BATCH, HandHistoryWriter.QUEUE_CAPACITY);
+             HandHistoryRecorder recorder = new HandHistoryRecorder(writer, 1, 0)) {
+
+            QueueInput input = new QueueInput();
+            GameSession session = new GameSession(input, line -> { }, new DrawSolverStrategy(), new CardDeck(new Random(1)));
+
+            session.setListener(recorder);
+            input.offer("2");
+            input.offer("n");
+            input.close();
+            session.run();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+            while (writer.getWrittenBytes() < HandHistory.SEGMENT_HEADER + HandHistory.RECORD_HEADER
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(HandHistory.SEGMENT_HEADER + HandHistory.RECORD_HEADER + 2 * HandHistory.SEAT_SIZE,
+                    writer.getWrittenBytes());
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+
+    @Test
+    public void testConsoleGameIsRecorded() throws Exception {
+
+        Path directory = Files.createTempDirectory("history");
+
+        try {
+            try (HandHistoryWriter writer = new HandHistoryWriter(directory);
+                 HandHistoryRecorder recorder = new HandHistoryRecorder(writer)) {
+
+                QueueInput input = new QueueInput();
+                GameSession session = new GameSession(input, line -> { }, new DrawSolverStrategy(), new CardDeck(new Random(1)));
+
+                session.setListener(recorder);
+                input.offer("2");
+                input.offer("n");
+                input.close();
+                session.run();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(HistoryTestSupport.segments(directory).get(0))).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.position(HandHistory.SEGMENT_HEADER);
+
+            assertEquals(HandHistory.RECORD_HEADER + 2 * HandHistory.SEAT_SIZE, buffer.getShort());
+            assertEquals(2, buffer.get());
+            buffer.position(HandHistory.SEGMENT_HEADER + 24);
+
+            assertEquals(6, buffer.getInt());
+            assertEquals(3, buffer.getInt());
+        }
+        finally {
+            HistoryTestSupport.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package history;
+
+import engine.CallingStrategy;
+import engine.PlayerStrategy;
+import engine.RaisingStrategy;
+import enums.PokerHand;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Strategies and file helpers shared by hand history tests.
+ */
+final class HistoryTestSupport {
+
+    private HistoryTestSupport() {
+    }
+
+    /**
+     * @param players count of players from 1 to 3
+     * @return new strategies of given count of players
+     */
+    static List<PlayerStrategy> strategies(int players) {
+        return Arrays.asList(new RaisingStrategy(PokerHand.TWO_PAIRS, 3), new CallingStrategy(),
+                new RaisingStrategy(PokerHand.ONE_PAIR, 1)).subList(0, players);
+    }
+
+    /**
+     * Lists segments by file name without HandHistoryReader.
+     * @param directory history directory
+     * @return segment files sorted by name
+     */
+    static List<Path> segments(Path directory) throws Exception {
+
+        List<Path> segments = new ArrayList<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "hands-*.seg")) {
+            for (Path file : files) {
+                segments.add(file);
+            }
+        }
+
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Deletes segments of history directory and directory itself.
+     * @param directory history directory
+     */
+    static void delete(Path directory) throws Exception {
+
+        for (Path segment : segments(directory)) {
+            Files.delete(segment);
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,33 @@
+package metrics;
+
+import junit.framework.TestCase;
+import org.junit.Test;
+
+public class LatencyHistogramTest extends TestCase {
+
+    @Test
+    public void testPercentiles() throws Exception {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(), 1e-9);
+        assertEquals(1000, histogram.getMax());
+        assertEquals(511, histogram.getPercentile(0.5));
+        assertEquals(1000, histogram.getPercentile(0.99));
+        assertEquals(1, histogram.getPercentile(0.001));
+
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(0.0001));
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+}
@@ -0,0 +1,96 @@
+package metrics;
+
+import engine.CallingStrategy;
+import engine.GameEngine;
+import engine.PlayerStrategy;
+import junit.framework.TestCase;
+import models.Hand;
+import org.junit.Test;
+import pools.CardDeck;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class PokerMetricsTest extends TestCase {
+
+    @Test
+    public void testHotPathsAreCounted() throws Exception {
+
+        PokerMetricsMXBean metrics = PokerMetrics.get();
+        assertTrue(metrics.isEnabled());
+
+        long hands = metrics.getHandsCreated();
+        long deals = metrics.getRandomDeals();
+        long categories = 0;
+
+        for (long count : metrics.getHandCategories().values()) {
+            categories += count;
+        }
+
+        CardDeck deck = new CardDeck(new Random(2));
+
+        for (int i = 0; i < 1000; i++) {
+            deck.resetDeck();
+            new Hand(deck.getRandomCards(5));
+            new Hand(deck.getRandomCards(5));
+        }
+
+        long categoriesAfter = 0;
+
+        for (long count : metrics.getHandCategories().values()) {
+            categoriesAfter += count;
+        }
+
+        assertTrue(metrics.getHandsCreated() - hands >= 2000);
+        assertTrue(categoriesAfter - categories >= 2000);
+        assertTrue(metrics.getRandomDeals() - deals >= 2000);
+        assertTrue(metrics.getLatencies().get("hand").startsWith("count="));
+    }
+
+    @Test
+    public void testRoundsAreTimed() throws Exception {
+
+        PokerMetricsMXBean metrics = PokerMetrics.get();
+        long rounds = metrics.getRounds();
+        long ranked = metrics.getRankedHands();
+
+        List<PlayerStrategy> strategies = Arrays.asList(new CallingStrategy(), new CallingStrategy());
+        GameEngine engine = new GameEngine(strategies, new Random(4));
+        engine.play();
+
+        assertTrue(metrics.getRounds() - rounds >= engine.getRounds());
+        assertTrue(metrics.getRankedHands() - ranked >= 2 * engine.getRounds());
+        assertTrue(metrics.getRoundMeanNanos() > 0);
+        assertTrue(metrics.getRoundP99Nanos() > 0);
+    }
+
+    @Test
+    public void testMXBean() throws Exception {
+
+        assertTrue(PokerMetrics.register());
+        assertTrue(PokerMetrics.register());
+
+        new Hand(new CardDeck(new Random(6)).getRandomCards(5));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(PokerMetrics.OBJECT_NAME);
+
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        assertTrue((Long) server.getAttribute(name, "HandsCreated") > 0);
+        assertEquals(10, ((TabularData) server.getAttribute(name, "HandCategories")).size());
+        assertEquals(4, ((TabularData) server.getAttribute(name, "Latencies")).size());
+
+        server.invoke(name, "reset", null, null);
+
+        Map<String, Long> categories = PokerMetrics.get().getHandCategories();
+
+        assertEquals(0, PokerMetrics.get().getHandsCreated());
+        assertEquals(Long.valueOf(0), categories.get("ROYAL_FLUSH"));
+    }
+}
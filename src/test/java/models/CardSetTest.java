@@ -0,0 +1,56 @@
+package models;
+
+import analyzers.HandEvaluator;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardSetTest extends TestCase {
+
+    @Test
+    public void testIndex() throws Exception {
+        assertEquals(0, new Card(Suit.HEARTS, Rank.TWO).getIndex());
+        assertEquals(51, new Card(Suit.CLUBS, Rank.ACE).getIndex());
+        assertEquals(Rank.KING, CardSet.toCard(new Card(Suit.SPADES, Rank.KING).getIndex()).getRank());
+    }
+
+    @Test
+    public void testSetOperations() throws Exception {
+
+        CardSet set1 = CardSet.of(new Card(Suit.HEARTS, Rank.ACE), new Card(Suit.SPADES, Rank.TWO));
+        CardSet set2 = CardSet.of(new Card(Suit.SPADES, Rank.TWO), new Card(Suit.CLUBS, Rank.TEN));
+
+        assertEquals(3, set1.union(set2).size());
+        assertEquals(1, set1.intersect(set2).size());
+        assertTrue(set1.intersect(set2).contains(new Card(Suit.SPADES, Rank.TWO)));
+        assertFalse(set1.minus(set2).contains(new Card(Suit.SPADES, Rank.TWO)));
+        assertEquals(52, CardSet.FULL_DECK.size());
+        assertTrue(CardSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void testConversions() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.DIAMONDS, Rank.ACE));
+                add(new Card(Suit.DIAMONDS, Rank.KING));
+                add(new Card(Suit.DIAMONDS, Rank.QUEEN));
+                add(new Card(Suit.DIAMONDS, Rank.JACK));
+                add(new Card(Suit.DIAMONDS, Rank.TEN));
+            }
+        };
+
+        CardSet set = CardSet.of(cards);
+        Hand hand = set.toHand();
+
+        assertEquals(5, hand.getCards().size());
+        assertEquals(set, CardSet.of(hand));
+        assertEquals(HandEvaluator.evaluate(cards), HandEvaluator.evaluate(set));
+        assertEquals(HandEvaluator.STRENGTH_CLASSES, hand.getStrength());
+    }
+}
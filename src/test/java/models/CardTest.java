@@ -0,0 +1,29 @@
+package models;
+
+import analyzers.HandEvaluator;
+import enums.Rank;
+import enums.Suit;
+import junit.framework.TestCase;
+import org.junit.Test;
+
+public class CardTest extends TestCase {
+
+    @Test
+    public void testCanonicalCards() throws Exception {
+        assertSame(Card.of(Suit.SPADES, Rank.QUEEN), Card.of(Suit.SPADES, Rank.QUEEN));
+        assertSame(Card.of(Suit.SPADES, Rank.QUEEN), Card.of(Card.of(Suit.SPADES, Rank.QUEEN).getIndex()));
+        assertEquals(Card.of(Suit.SPADES, Rank.QUEEN), new Card(Suit.SPADES, Rank.QUEEN));
+    }
+
+    @Test
+    public void testPrecomputedFields() throws Exception {
+
+        Card card = Card.of(Suit.CLUBS, Rank.ACE);
+
+        assertEquals(51, card.getIndex());
+        assertEquals(13, card.getRankValue());
+        assertEquals(41, card.getPrime());
+        assertEquals(1 << Suit.CLUBS.ordinal(), card.getSuitBit());
+        assertEquals(HandEvaluator.encode(51), card.getCode());
+    }
+}
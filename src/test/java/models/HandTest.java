@@ -1,12 +1,17 @@
 package models;
 
+import enums.PokerHand;
 import enums.Rank;
 import enums.Suit;
+import exceptions.WrongHandException;
+import exceptions.WrongNumberOfCardsException;
 import junit.framework.TestCase;
 import org.junit.Test;
+import pools.CardDeck;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class HandTest extends TestCase {
 
@@ -475,4 +480,129 @@ public class HandTest extends TestCase {
         assertEquals(0, hand1.compareTo(hand2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWheelStraight() throws Exception {
+
+        List<Card> cards1 = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.DIAMONDS, Rank.SIX));
+                add(new Card(Suit.SPADES, Rank.FIVE));
+                add(new Card(Suit.DIAMONDS, Rank.FOUR));
+                add(new Card(Suit.CLUBS, Rank.THREE));
+                add(new Card(Suit.DIAMONDS, Rank.TWO));
+            }
+        };
+
+        List<Card> cards2 = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.HEARTS, Rank.ACE));
+                add(new Card(Suit.CLUBS, Rank.FIVE));
+                add(new Card(Suit.SPADES, Rank.FOUR));
+                add(new Card(Suit.DIAMONDS, Rank.THREE));
+                add(new Card(Suit.HEARTS, Rank.TWO));
+            }
+        };
+
+        Hand hand1 = new Hand(cards1);
+        Hand hand2 = new Hand(cards2);
+
+        assertEquals(1, hand1.compareTo(hand2));
+    }
+
+    @Test
+    public void testScore() throws Exception {
+
+        List<Card> cards1 = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.DIAMONDS, Rank.KING));
+                add(new Card(Suit.HEARTS, Rank.KING));
+                add(new Card(Suit.CLUBS, Rank.EIGHT));
+                add(new Card(Suit.HEARTS, Rank.QUEEN));
+                add(new Card(Suit.SPADES, Rank.NINE));
+            }
+        };
+
+        List<Card> cards2 = new ArrayList<Card>() {
+            {
+                add(new Card(Suit.CLUBS, Rank.KING));
+                add(new Card(Suit.SPADES, Rank.KING));
+                add(new Card(Suit.DIAMONDS, Rank.EIGHT));
+                add(new Card(Suit.DIAMONDS, Rank.QUEEN));
+                add(new Card(Suit.CLUBS, Rank.SEVEN));
+            }
+        };
+
+        Hand hand1 = new Hand(cards1);
+        Hand hand2 = new Hand(cards2);
+
+        assertEquals(hand1.getStrength(), hand1.getMatchData().getScore());
+        assertSame(hand1.getMatchData(), hand1.getMatchData());
+        assertTrue(hand1.getMatchData().getScore() > hand2.getMatchData().getScore());
+        assertEquals(1, hand1.compareTo(hand2));
+        assertEquals(-1, hand2.compareTo(hand1));
+    }
+
+    @Test
+    public void testSortByStrength() throws Exception {
+
+        CardDeck deck = new CardDeck(new Random(11));
+        List<Hand> hands = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            deck.resetDeck();
+            hands.add(new Hand(deck.getRandomCards(5)));
+        }
+
+        hands.add(new Hand(new ArrayList<>()));
+        hands.sort(Hand.BY_STRENGTH);
+
+        assertEquals(0, hands.get(0).getStrength());
+
+        for (int i = 1; i < hands.size(); i++) {
+            assertTrue(hands.get(i - 1).compareTo(hands.get(i)) <= 0);
+            assertEquals(hands.get(i - 1).compareTo(hands.get(i)), Hand.BY_STRENGTH.compare(hands.get(i - 1), hands.get(i)));
+        }
+    }
+
+    @Test
+    public void testValidated() throws Exception {
+
+        List<Card> cards = new ArrayList<Card>() {
+            {
+                add(Card.of(Suit.CLUBS, Rank.KING));
+                add(Card.of(Suit.SPADES, Rank.KING));
+                add(Card.of(Suit.DIAMONDS, Rank.EIGHT));
+                add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+            }
+        };
+
+        try {
+            Hand.validated(cards);
+            fail("Hand of 4 cards was validated");
+        }
+        catch (WrongNumberOfCardsException ex) {
+            assertEquals("Hand has to consist of 5 cards!", ex.getMessage());
+        }
+
+        cards.add(Card.of(Suit.CLUBS, Rank.KING));
+
+        try {
+            Hand.validated(cards);
+            fail("Hand with same card twice was validated");
+        }
+        catch (WrongHandException ex) {
+            assertTrue(ex.getMessage().startsWith("Hand has to consist of 5 different cards"));
+        }
+
+        Hand unchecked = new Hand(cards);
+
+        assertEquals(0, unchecked.getStrength());
+        assertNull(unchecked.getPokerHand());
+
+        cards.set(4, Card.of(Suit.CLUBS, Rank.SEVEN));
+        Hand hand = Hand.validated(cards);
+
+        assertEquals(PokerHand.ONE_PAIR, hand.getPokerHand());
+        assertEquals(new Hand(cards).getStrength(), hand.getStrength());
+    }
+}
@@ -1,9 +1,14 @@
 package pools;
 
 import junit.framework.TestCase;
+import models.Card;
+import models.CardSet;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Random;
+
 public class CardDeckTest extends TestCase{
 
     private CardDeck cd;
@@ -16,6 +21,68 @@ public class CardDeckTest extends TestCase{
     @Test
     public void testGetRandomCards() throws Exception {
         assertEquals(5, cd.getRandomCards(5).size());
+        assertTrue(cd.getRandomCards(-1).isEmpty());
+        assertEquals(47, cd.getRemainingCount());
+    }
+
+    @Test
+    public void testReturnCards() throws Exception {
+
+        CardSet dealt = cd.getRandomCardSet(10);
+        CardSet returned = new CardSet(CardSet.removeFirst(dealt.getBits()));
+
+        cd.returnCards(returned);
+
+        assertEquals(51, cd.getRemainingCount());
+        assertEquals(CardSet.FULL_DECK.minus(dealt).union(returned), cd.getRemainingCards());
+
+        cd.returnCards(CardSet.FULL_DECK);
+        assertEquals(52, cd.getRemainingCount());
+    }
+
+    @Test
+    public void testRemoveCards() throws Exception {
+
+        CardSet dealt = cd.getRandomCardSet(5);
+        CardSet dead = new CardSet(0x1FL);
+        cd.removeCards(dead);
+
+        assertEquals(5, dealt.size());
+        assertEquals(47 - dead.minus(dealt).size(), cd.getRemainingCards().size());
+        assertTrue(cd.getRemainingCards().intersect(dealt).isEmpty());
+        assertTrue(cd.getRemainingCards().intersect(dead).isEmpty());
+    }
+
+    @Test
+    public void testSeededDeals() throws Exception {
+
+        CardDeck deck1 = new CardDeck(new Random(42));
+        CardDeck deck2 = new CardDeck(new Random(42));
+
+        assertEquals(deck1.getRandomCards(5), deck2.getRandomCards(5));
+
+        deck1.resetDeck();
+        deck2.resetDeck();
+        deck1.shuffle();
+        deck2.shuffle();
+
+        assertEquals(deck1.deal(10), deck2.deal(10));
+    }
+
+    @Test
+    public void testDealWholeDeck() throws Exception {
+
+        cd.shuffle();
+
+        List<Card> cards = cd.deal(52);
+
+        assertEquals(52, CardSet.of(cards).size());
+        assertEquals(0, cd.getRemainingCount());
+        assertNull(cd.deal());
+        assertNull(cd.getRandomCards(1));
+
+        cd.resetDeck();
+        assertEquals(CardSet.FULL_DECK, cd.getRemainingCards());
     }
 
 }
\ No newline at end of file